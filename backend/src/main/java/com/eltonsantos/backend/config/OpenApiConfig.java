@@ -41,6 +41,7 @@ public class OpenApiConfig {
                     - **Colaboradores**: Cadastro e gestão de colaboradores
                     - **Férias**: Solicitação, aprovação e rejeição de férias
                     - **Saldo**: Consulta de saldo de dias de férias
+                    - **Feriados**: Cadastro de feriados usados no cálculo de dias úteis
                     - **Auditoria**: Logs de todas as ações do sistema
                     
                     ### Autenticação
@@ -83,6 +84,7 @@ public class OpenApiConfig {
                 new Tag().name("Colaboradores").description("Endpoints para gerenciamento de colaboradores"),
                 new Tag().name("Usuários").description("Endpoints para gerenciamento de usuários (Admin)"),
                 new Tag().name("Saldo de Férias").description("Endpoints para consulta de saldo de férias"),
+                new Tag().name("Feriados").description("Endpoints para gerenciamento de feriados"),
                 new Tag().name("Auditoria").description("Endpoints para consulta de logs de auditoria (Admin)")))
             .addSecurityItem(new SecurityRequirement().addList(securitySchemeName))
             .components(new Components()
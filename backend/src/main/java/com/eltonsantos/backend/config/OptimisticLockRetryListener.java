@@ -0,0 +1,75 @@
+package com.eltonsantos.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+
+/**
+ * Counts optimistic-lock conflicts and retry outcomes per operation.
+ * The operation name is the {@code label} of the {@code @Retryable} annotation.
+ * Other failures (validation, access) are not conflicts and are left out.
+ *
+ * <ul>
+ *   <li>{@code vacation.optimistic_lock.conflicts} - every attempt that lost a conflict</li>
+ *   <li>{@code vacation.optimistic_lock.retries} - calls that hit at least one conflict, tagged
+ *       with {@code outcome=recovered|exhausted|failed} (failed: a retry ended in another error,
+ *       e.g. the request was no longer pending when re-read)</li>
+ * </ul>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OptimisticLockRetryListener implements RetryListener {
+
+    private static final String CONFLICTS = "vacation.optimistic_lock.conflicts";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        if (!(throwable instanceof OptimisticLockingFailureException)) {
+            return;
+        }
+        context.setAttribute(CONFLICTS, true);
+
+        String operation = operation(context);
+        Counter.builder("vacation.optimistic_lock.conflicts")
+                .description("Optimistic-lock conflicts on vacation writes")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+
+        if (throwable instanceof ObjectOptimisticLockingFailureException ex) {
+            log.warn("Optimistic lock conflict on {} (attempt {}): {} {}",
+                    operation, context.getRetryCount(), ex.getPersistentClassName(), ex.getIdentifier());
+        } else {
+            log.warn("Optimistic lock conflict on {} (attempt {})", operation, context.getRetryCount());
+        }
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        if (!context.hasAttribute(CONFLICTS)) {
+            return;
+        }
+
+        String outcome = throwable == null ? "recovered"
+                : throwable instanceof OptimisticLockingFailureException ? "exhausted" : "failed";
+        Counter.builder("vacation.optimistic_lock.retries")
+                .description("Vacation writes that were retried after an optimistic-lock conflict")
+                .tag("operation", operation(context))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private String operation(RetryContext context) {
+        Object name = context.getAttribute(RetryContext.NAME);
+        return name != null ? name.toString() : "unknown";
+    }
+}
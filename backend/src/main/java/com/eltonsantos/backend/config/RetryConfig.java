@@ -0,0 +1,21 @@
+package com.eltonsantos.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * Enables declarative retries for service methods annotated with {@code @Retryable}.
+ * The retry advice is ordered ahead of the transaction advice, so every attempt
+ * runs in a fresh transaction and re-reads (and re-validates) the entity.
+ */
+@Configuration
+@EnableRetry
+public class RetryConfig {
+
+    @Bean
+    public OptimisticLockRetryListener optimisticLockRetryListener(MeterRegistry meterRegistry) {
+        return new OptimisticLockRetryListener(meterRegistry);
+    }
+}
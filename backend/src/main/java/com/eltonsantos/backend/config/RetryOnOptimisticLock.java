@@ -0,0 +1,31 @@
+package com.eltonsantos.backend.config;
+
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Retries a write that lost an optimistic-lock race, with jittered exponential backoff, and
+ * reports it to {@link OptimisticLockRetryListener} under {@link #value()} as the operation name.
+ * Attempts and delays come from the {@code vacation.retry.*} properties.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Retryable(retryFor = OptimisticLockingFailureException.class,
+        listeners = "optimisticLockRetryListener",
+        maxAttemptsExpression = "${vacation.retry.max-attempts:3}",
+        backoff = @Backoff(delayExpression = "${vacation.retry.initial-delay-ms:50}",
+                maxDelayExpression = "${vacation.retry.max-delay-ms:500}", multiplier = 2, random = true))
+public @interface RetryOnOptimisticLock {
+
+    @AliasFor(annotation = Retryable.class, attribute = "label")
+    String value();
+}
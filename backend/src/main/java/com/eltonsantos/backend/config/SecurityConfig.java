@@ -1,6 +1,10 @@
 package com.eltonsantos.backend.config;
 
+import com.eltonsantos.backend.security.IdempotencyFilter;
 import com.eltonsantos.backend.security.JwtAuthenticationFilter;
+import com.eltonsantos.backend.service.IdempotencyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,6 +22,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
@@ -28,6 +33,8 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final UserDetailsService userDetailsService;
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -43,24 +50,31 @@ public class SecurityConfig {
             }))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // Async dispatches (SSE streams) were already authorized on the original request
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // Public endpoints
                 .requestMatchers("/auth/login", "/auth/signup").permitAll()
                 .requestMatchers("/swagger-ui/**", "/api-docs/**", "/swagger-ui.html").permitAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
                 // Admin only
                 .requestMatchers("/users/**").hasRole("ADMIN")
                 .requestMatchers("/audit-logs/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 // Admin and Manager
                 .requestMatchers(HttpMethod.POST, "/employees/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/employees/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/employees/**").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/holidays/**").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.DELETE, "/holidays/**").hasRole("ADMIN")
                 // Vacation approvals - Admin and Manager
                 .requestMatchers("/vacations/*/approve", "/vacations/*/reject").hasAnyRole("ADMIN", "MANAGER")
                 // All authenticated users
                 .anyRequest().authenticated()
             )
             .authenticationProvider(authenticationProvider())
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(new IdempotencyFilter(idempotencyService, objectMapper), AuthorizationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,40 @@
+package com.eltonsantos.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors shared by the application.
+ *
+ * <p>Declaring any executor bean turns off Spring Boot's default one, which also runs streamed
+ * responses such as the exports; it is therefore declared here with Boot's builder, so the
+ * {@code spring.task.execution.*} properties still apply.</p>
+ */
+@Configuration
+public class TaskExecutorConfig {
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * Hashes passwords for {@code POST /users/batch}. The queue is bounded: when it is full new
+     * batches are rejected rather than piling up behind the ones already waiting.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${vacation.user-batch.hash-threads:0}") int hashThreads,
+            @Value("${vacation.user-batch.hash-queue-capacity:2000}") int queueCapacity) {
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        return executor;
+    }
+}
@@ -1,8 +1,11 @@
 package com.eltonsantos.backend.controller;
 
 import com.eltonsantos.backend.dto.response.AuditLogResponse;
+import com.eltonsantos.backend.dto.response.KeysetPageResponse;
 import com.eltonsantos.backend.dto.response.PageResponse;
+import com.eltonsantos.backend.enums.ExportFormat;
 import com.eltonsantos.backend.exception.GlobalExceptionHandler.ErrorResponse;
+import com.eltonsantos.backend.service.AuditExportService;
 import com.eltonsantos.backend.service.AuditService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,9 +18,18 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/audit-logs")
@@ -27,26 +39,96 @@ import org.springframework.web.bind.annotation.*;
 public class AuditController {
 
     private final AuditService auditService;
+    private final AuditExportService auditExportService;
 
     @GetMapping
-    @Operation(summary = "Listar logs de auditoria", description = "Retorna lista paginada de todos os registros de auditoria do sistema, ordenados do mais recente para o mais antigo")
+    @Operation(summary = "Listar logs de auditoria", description = "Retorna lista paginada de todos os registros de auditoria do sistema, ordenados do mais recente para o mais antigo. Sem período informado, retorna apenas os últimos 90 dias")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Lista de logs retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Período inválido",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "401", description = "Token inválido ou expirado", 
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "403", description = "Sem permissão de administrador", 
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     public ResponseEntity<PageResponse<AuditLogResponse>> findAll(
+            @Parameter(description = "Início do período (inclusivo). Padrão: últimos 90 dias", example = "2026-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Fim do período (exclusivo). Padrão: agora", example = "2026-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
             @Parameter(description = "Parâmetros de paginação (page, size, sort)")
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        return ResponseEntity.ok(auditService.findAll(pageable));
+        return ResponseEntity.ok(auditService.findAll(from, to, pageable));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Pesquisar logs por metadados", description = "Pesquisa os logs de auditoria pelos metadados JSON: contenção de um objeto (contains), existência de chaves (hasKey) e predicado JSONPath (path), além de ação, tipo de entidade e período. Do mais recente para o mais antigo, paginado por cursor. Sem período informado, pesquisa os últimos 90 dias")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Página de logs retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Filtro JSON, JSONPath, período ou cursor inválido",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Sem permissão de administrador",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<KeysetPageResponse<AuditLogResponse>> search(
+            @Parameter(description = "Tipo de ação", example = "VACATION_APPROVED")
+            @RequestParam(required = false) String action,
+            @Parameter(description = "Tipo da entidade", example = "VacationRequest")
+            @RequestParam(required = false) String entityType,
+            @Parameter(description = "Objeto JSON que os metadados devem conter", example = "{\"employeeName\": \"Maria Santos\"}")
+            @RequestParam(required = false) String contains,
+            @Parameter(description = "Chaves que os metadados devem ter (todas)", example = "days")
+            @RequestParam(required = false) List<String> hasKey,
+            @Parameter(description = "Predicado JSONPath sobre os metadados", example = "$.days > 10")
+            @RequestParam(required = false) String path,
+            @Parameter(description = "Início do período (inclusivo). Padrão: últimos 90 dias", example = "2026-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Fim do período (exclusivo). Padrão: agora", example = "2026-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Cursor retornado pela página anterior (omitir na primeira página)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de itens por página (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(auditService.search(action, entityType, contains, hasKey, path, from, to, cursor, size));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exportar logs de auditoria", description = "Baixa os logs de auditoria de um período em CSV ou NDJSON, do mais antigo para o mais recente, transmitidos à medida que são lidos do banco. O período pode ter no máximo 366 dias")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Arquivo de exportação",
+            content = {@Content(mediaType = "text/csv"), @Content(mediaType = "application/x-ndjson")}),
+        @ApiResponse(responseCode = "400", description = "Período inválido ou longo demais",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Sem permissão de administrador",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Início do período (inclusivo)", required = true, example = "2026-01-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Fim do período (exclusivo)", required = true, example = "2026-04-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Formato do arquivo", example = "CSV")
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        StreamingResponseBody body = auditExportService.export(from, to, format);
+        String filename = "audit-logs-" + from.toLocalDate() + "-" + to.toLocalDate() + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
     }
 
     @GetMapping("/entity/{entityType}")
     @Operation(summary = "Listar logs por tipo de entidade", description = "Retorna logs de auditoria filtrados por tipo de entidade (ex: VacationRequest, Employee, User)")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Lista de logs filtrada retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Período inválido",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "401", description = "Token inválido ou expirado", 
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "403", description = "Sem permissão de administrador", 
@@ -56,8 +138,77 @@ public class AuditController {
             @Parameter(description = "Tipo da entidade para filtro", required = true, example = "VacationRequest", 
                 schema = @Schema(allowableValues = {"VacationRequest", "Employee", "User"}))
             @PathVariable String entityType,
+            @Parameter(description = "Início do período (inclusivo). Padrão: últimos 90 dias", example = "2026-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Fim do período (exclusivo). Padrão: agora", example = "2026-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
             @Parameter(description = "Parâmetros de paginação (page, size, sort)")
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        return ResponseEntity.ok(auditService.findByEntityType(entityType, pageable));
+        return ResponseEntity.ok(auditService.findByEntityType(entityType, from, to, pageable));
+    }
+
+    @GetMapping("/by-entity-type/{entityType}")
+    @Operation(summary = "Logs por tipo de entidade (cursor)", description = "Retorna os logs de um tipo de entidade, do mais recente para o mais antigo, paginados por cursor. Cada página é lida diretamente do índice, sem ordenação, independentemente do volume de histórico")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Página de logs retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Sem permissão de administrador",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<KeysetPageResponse<AuditLogResponse>> findPageByEntityType(
+            @Parameter(description = "Tipo da entidade para filtro", required = true, example = "VacationRequest")
+            @PathVariable String entityType,
+            @Parameter(description = "Cursor retornado pela página anterior (omitir na primeira página)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de itens por página (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(auditService.findPageByEntityType(entityType, cursor, size));
+    }
+
+    @GetMapping("/by-actor/{actorUserId}")
+    @Operation(summary = "Logs por autor (cursor)", description = "Retorna as ações realizadas por um usuário, da mais recente para a mais antiga, paginadas por cursor")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Página de logs retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Sem permissão de administrador",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<KeysetPageResponse<AuditLogResponse>> findPageByActor(
+            @Parameter(description = "ID do usuário que realizou as ações", required = true, example = "660e8400-e29b-41d4-a716-446655440001")
+            @PathVariable UUID actorUserId,
+            @Parameter(description = "Cursor retornado pela página anterior (omitir na primeira página)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de itens por página (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(auditService.findPageByActor(actorUserId, cursor, size));
+    }
+
+    @GetMapping("/by-entity/{entityType}/{entityId}")
+    @Operation(summary = "Histórico de uma entidade (cursor)", description = "Retorna o histórico de auditoria de uma entidade específica, do mais recente para o mais antigo, paginado por cursor")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Página de logs retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Sem permissão de administrador",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<KeysetPageResponse<AuditLogResponse>> findPageByEntity(
+            @Parameter(description = "Tipo da entidade", required = true, example = "VacationRequest")
+            @PathVariable String entityType,
+            @Parameter(description = "ID da entidade", required = true, example = "770e8400-e29b-41d4-a716-446655440002")
+            @PathVariable UUID entityId,
+            @Parameter(description = "Cursor retornado pela página anterior (omitir na primeira página)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de itens por página (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(auditService.findPageByEntity(entityType, entityId, cursor, size));
     }
 }
@@ -1,8 +1,12 @@
 package com.eltonsantos.backend.controller;
 
+import com.eltonsantos.backend.dto.response.BalanceReconciliationResponse;
+import com.eltonsantos.backend.dto.response.BalanceRolloverStatusResponse;
 import com.eltonsantos.backend.dto.response.PageResponse;
 import com.eltonsantos.backend.dto.response.VacationBalanceResponse;
 import com.eltonsantos.backend.exception.GlobalExceptionHandler.ErrorResponse;
+import com.eltonsantos.backend.service.BalanceReconciliationService;
+import com.eltonsantos.backend.service.BalanceRolloverService;
 import com.eltonsantos.backend.service.BalanceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,9 +18,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Year;
 import java.util.UUID;
 
 @RestController
@@ -26,6 +34,8 @@ import java.util.UUID;
 public class BalanceController {
 
     private final BalanceService balanceService;
+    private final BalanceRolloverService balanceRolloverService;
+    private final BalanceReconciliationService balanceReconciliationService;
 
     @GetMapping
     @Operation(summary = "Listar saldos de férias", description = "Retorna lista paginada de saldos de férias para um ano específico. Se não informado, usa o ano atual")
@@ -47,8 +57,11 @@ public class BalanceController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Saldo encontrado", 
             content = @Content(schema = @Schema(implementation = VacationBalanceResponse.class))),
+        @ApiResponse(responseCode = "304", description = "Recurso não modificado desde a versão informada em If-None-Match"),
         @ApiResponse(responseCode = "401", description = "Token inválido ou expirado", 
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Sem permissão para ver o saldo deste colaborador",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "404", description = "Colaborador ou saldo não encontrado", 
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
@@ -56,7 +69,64 @@ public class BalanceController {
             @Parameter(description = "ID do colaborador", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
             @PathVariable UUID employeeId,
             @Parameter(description = "Ano de referência (padrão: ano atual)", example = "2026")
+            @RequestParam(required = false) Integer year,
+            WebRequest webRequest) {
+        String etag = balanceService.findETagByEmployeeAndYear(employeeId, year);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(balanceService.findByEmployeeAndYear(employeeId, year));
+    }
+
+    @PostMapping("/rollover")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Iniciar virada de ano", description = "Cria em segundo plano os saldos do ano informado para todos os colaboradores ativos, com o saldo restante do ano anterior transferido até o limite configurado. Saldos já existentes não são recriados; se o ano anterior já terminou, o saldo transferido é recalculado a partir do saldo final dele. Requer permissão de administrador")
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "Virada de ano iniciada",
+            content = @Content(schema = @Schema(implementation = BalanceRolloverStatusResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Já existe uma virada de ano em andamento",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Sem permissão de administrador",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<BalanceRolloverStatusResponse> startRollover(
+            @Parameter(description = "Ano dos saldos a criar (padrão: próximo ano)", example = "2027")
             @RequestParam(required = false) Integer year) {
-        return ResponseEntity.ok(balanceService.findByEmployeeAndYear(employeeId, year));
+        int targetYear = year != null ? year : Year.now().getValue() + 1;
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(balanceRolloverService.start(targetYear));
+    }
+
+    @GetMapping("/rollover")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Progresso da virada de ano", description = "Retorna a situação da última virada de ano executada neste servidor. Requer permissão de administrador")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Situação retornada com sucesso",
+            content = @Content(schema = @Schema(implementation = BalanceRolloverStatusResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Sem permissão de administrador",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<BalanceRolloverStatusResponse> getRolloverStatus() {
+        return ResponseEntity.ok(balanceRolloverService.getStatus());
+    }
+
+    @PostMapping("/reconcile")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reconciliar saldos", description = "Recalcula os dias usados de todos os saldos a partir das férias aprovadas e corrige as divergências. Com dryRun=true (padrão) apenas gera o relatório. Requer permissão de administrador")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Reconciliação executada",
+            content = @Content(schema = @Schema(implementation = BalanceReconciliationResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Sem permissão de administrador",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<BalanceReconciliationResponse> reconcile(
+            @Parameter(description = "Apenas simular, sem alterar os saldos", example = "true")
+            @RequestParam(defaultValue = "true") boolean dryRun) {
+        return ResponseEntity.ok(balanceReconciliationService.reconcile(dryRun));
     }
 }
@@ -1,10 +1,15 @@
 package com.eltonsantos.backend.controller;
 
 import com.eltonsantos.backend.dto.request.EmployeeRequest;
+import com.eltonsantos.backend.dto.response.EmployeeImportResponse;
 import com.eltonsantos.backend.dto.response.EmployeeResponse;
+import com.eltonsantos.backend.dto.response.EmployeeSearchResponse;
 import com.eltonsantos.backend.dto.response.PageResponse;
+import com.eltonsantos.backend.enums.ExportFormat;
 import com.eltonsantos.backend.exception.GlobalExceptionHandler.ErrorResponse;
 import com.eltonsantos.backend.exception.GlobalExceptionHandler.ValidationErrorResponse;
+import com.eltonsantos.backend.service.EmployeeExportService;
+import com.eltonsantos.backend.service.EmployeeImportService;
 import com.eltonsantos.backend.service.EmployeeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,11 +23,21 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -32,6 +47,8 @@ import java.util.UUID;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
+    private final EmployeeExportService employeeExportService;
 
     @GetMapping
     @Operation(summary = "Listar colaboradores", description = "Retorna lista paginada de todos os colaboradores ativos do sistema")
@@ -46,11 +63,53 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.findAll(pageable));
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Buscar colaboradores", description = "Busca colaboradores ativos por nome ou email (trecho ou nome parecido), ordenados por relevância. Indicado para autocompletar. Gerentes buscam em toda a sua hierarquia (subordinados diretos e indiretos)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Resultados da busca"),
+        @ApiResponse(responseCode = "400", description = "Termo de busca não informado ou com menos de 3 caracteres",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Colaboradores não podem buscar outros colaboradores",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<EmployeeSearchResponse>> search(
+            @Parameter(description = "Trecho do nome ou email (mínimo de 3 caracteres)", required = true, example = "maria")
+            @RequestParam String q,
+            @Parameter(description = "Quantidade máxima de resultados (1-50)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(employeeService.search(q, limit));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exportar colaboradores", description = "Baixa todos os colaboradores ativos em CSV ou NDJSON, transmitidos à medida que são lidos do banco. Administradores exportam todos; gerentes, toda a sua hierarquia")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Arquivo de exportação",
+            content = {@Content(mediaType = "text/csv"), @Content(mediaType = "application/x-ndjson")}),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Colaboradores não podem exportar colaboradores",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Formato do arquivo", example = "CSV")
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        StreamingResponseBody body = employeeExportService.export(format);
+        String filename = "employees-" + LocalDate.now() + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Obter colaborador por ID", description = "Retorna os detalhes de um colaborador específico")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Colaborador encontrado", 
             content = @Content(schema = @Schema(implementation = EmployeeResponse.class))),
+        @ApiResponse(responseCode = "304", description = "Recurso não modificado desde a versão informada em If-None-Match"),
         @ApiResponse(responseCode = "401", description = "Token inválido ou expirado", 
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "404", description = "Colaborador não encontrado", 
@@ -58,8 +117,13 @@ public class EmployeeController {
     })
     public ResponseEntity<EmployeeResponse> findById(
             @Parameter(description = "ID do colaborador", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
-            @PathVariable UUID id) {
-        return ResponseEntity.ok(employeeService.findById(id));
+            @PathVariable UUID id,
+            WebRequest webRequest) {
+        String etag = employeeService.findETagById(id);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(employeeService.findById(id));
     }
 
     @PostMapping
@@ -79,6 +143,27 @@ public class EmployeeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(employeeService.create(request));
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Importar colaboradores (CSV)", description = "Cria colaboradores em lote a partir de um arquivo CSV com cabeçalho e as colunas full_name, email e, opcionalmente, manager_email. Linhas inválidas são ignoradas e listadas no relatório de erros; as demais são criadas com saldo de férias do ano atual. Requer permissão de administrador")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Importação concluída; veja o relatório de erros por linha",
+            content = @Content(schema = @Schema(implementation = EmployeeImportResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Arquivo vazio, ilegível ou sem as colunas obrigatórias",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Sem permissão de administrador",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<EmployeeImportResponse> importCsv(
+            @Parameter(description = "Arquivo CSV (UTF-8)", required = true)
+            @RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(employeeImportService.importCsv(input));
+        }
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Atualizar colaborador", description = "Atualiza os dados de um colaborador existente. Requer permissão de administrador")
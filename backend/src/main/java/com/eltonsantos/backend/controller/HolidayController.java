@@ -0,0 +1,81 @@
+package com.eltonsantos.backend.controller;
+
+import com.eltonsantos.backend.dto.request.HolidayRequest;
+import com.eltonsantos.backend.dto.response.HolidayResponse;
+import com.eltonsantos.backend.exception.GlobalExceptionHandler.ErrorResponse;
+import com.eltonsantos.backend.exception.GlobalExceptionHandler.ValidationErrorResponse;
+import com.eltonsantos.backend.service.HolidayService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/holidays")
+@RequiredArgsConstructor
+@Tag(name = "Feriados", description = "Endpoints para gerenciamento dos feriados usados no cálculo de dias úteis")
+public class HolidayController {
+
+    private final HolidayService holidayService;
+
+    @GetMapping
+    @Operation(summary = "Listar feriados", description = "Retorna os feriados cadastrados para um ano. Se não informado, usa o ano atual")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Lista de feriados retornada com sucesso"),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<HolidayResponse>> findByYear(
+            @Parameter(description = "Ano de referência (padrão: ano atual)", example = "2026")
+            @RequestParam(required = false) Integer year) {
+        return ResponseEntity.ok(holidayService.findByYear(year));
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Cadastrar feriado", description = "Cadastra um feriado. Requer permissão de administrador")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Feriado cadastrado com sucesso",
+            content = @Content(schema = @Schema(implementation = HolidayResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos ou feriado já cadastrado na data",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Sem permissão de administrador",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<HolidayResponse> create(@Valid @RequestBody HolidayRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(holidayService.create(request));
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Excluir feriado", description = "Remove um feriado. Requer permissão de administrador")
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "Feriado excluído com sucesso"),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Sem permissão de administrador",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Feriado não encontrado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<Void> delete(
+            @Parameter(description = "ID do feriado", required = true)
+            @PathVariable UUID id) {
+        holidayService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,11 +1,15 @@
 package com.eltonsantos.backend.controller;
 
+import com.eltonsantos.backend.dto.request.BatchCreateUserRequest;
 import com.eltonsantos.backend.dto.request.CreateUserRequest;
 import com.eltonsantos.backend.dto.request.UpdateUserRequest;
 import com.eltonsantos.backend.dto.response.PageResponse;
+import com.eltonsantos.backend.dto.response.UserBatchResponse;
 import com.eltonsantos.backend.dto.response.UserResponse;
 import com.eltonsantos.backend.exception.GlobalExceptionHandler.ErrorResponse;
 import com.eltonsantos.backend.exception.GlobalExceptionHandler.ValidationErrorResponse;
+import com.eltonsantos.backend.service.UserBatchService;
+import com.eltonsantos.backend.service.ManagerDirectory;
 import com.eltonsantos.backend.service.UserService;
 
 import java.util.List;
@@ -25,6 +29,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -36,6 +41,7 @@ import java.util.UUID;
 public class UserController {
 
     private final UserService userService;
+    private final UserBatchService userBatchService;
 
     @GetMapping
     @Operation(summary = "Listar usuários", description = "Retorna lista paginada de todos os usuários do sistema")
@@ -53,16 +59,21 @@ public class UserController {
     }
 
     @GetMapping("/managers")
-    @Operation(summary = "Listar gerentes", description = "Retorna lista de todos os usuários com papel de MANAGER")
+    @Operation(summary = "Listar gerentes", description = "Retorna lista de todos os usuários com papel de MANAGER, servida de cache em memória. Suporta requisições condicionais via ETag/If-None-Match")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Lista de gerentes retornada com sucesso"),
+        @ApiResponse(responseCode = "304", description = "Lista não modificada desde a versão informada em If-None-Match"),
         @ApiResponse(responseCode = "401", description = "Token inválido ou expirado", 
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "403", description = "Sem permissão de administrador", 
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<UserResponse>> findManagers() {
-        return ResponseEntity.ok(userService.findManagers());
+    public ResponseEntity<List<UserResponse>> findManagers(WebRequest webRequest) {
+        ManagerDirectory.Entry managers = userService.findManagers();
+        if (webRequest.checkNotModified(managers.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(managers.etag()).body(managers.users());
     }
 
     @GetMapping("/{id}")
@@ -99,6 +110,24 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(userService.create(request));
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Criar usuários em lote", description = "Cria vários usuários de uma vez, com as mesmas regras de POST /users. As senhas são processadas em paralelo e os registros gravados em lote. Usuários inválidos são ignorados e listados nos resultados, junto com a vazão obtida")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Lote processado; veja o resultado de cada usuário",
+            content = @Content(schema = @Schema(implementation = UserBatchResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Lote vazio ou maior que o limite configurado",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Sem permissão de administrador",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "503", description = "Fila de geração de senhas cheia; tente novamente após o tempo indicado em Retry-After",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<UserBatchResponse> createBatch(@Valid @RequestBody BatchCreateUserRequest request) {
+        return ResponseEntity.ok(userBatchService.createAll(request.users()));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Atualizar usuário", description = "Atualiza os dados de um usuário existente")
     @ApiResponses({
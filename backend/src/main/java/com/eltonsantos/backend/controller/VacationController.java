@@ -2,10 +2,14 @@ package com.eltonsantos.backend.controller;
 
 import com.eltonsantos.backend.dto.request.VacationDecisionRequest;
 import com.eltonsantos.backend.dto.request.VacationRequestDto;
+import com.eltonsantos.backend.dto.response.KeysetPageResponse;
 import com.eltonsantos.backend.dto.response.PageResponse;
+import com.eltonsantos.backend.dto.response.VacationChangesResponse;
+import com.eltonsantos.backend.dto.response.VacationEventResponse;
 import com.eltonsantos.backend.dto.response.VacationResponse;
 import com.eltonsantos.backend.exception.GlobalExceptionHandler.ErrorResponse;
 import com.eltonsantos.backend.exception.GlobalExceptionHandler.ValidationErrorResponse;
+import com.eltonsantos.backend.service.VacationEventStream;
 import com.eltonsantos.backend.service.VacationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,9 +25,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -36,6 +43,7 @@ import java.util.UUID;
 public class VacationController {
 
     private final VacationService vacationService;
+    private final VacationEventStream vacationEventStream;
 
     @GetMapping
     @Operation(summary = "Listar solicitações de férias", description = "Retorna lista paginada de todas as solicitações de férias. Administradores e gerentes veem todas; colaboradores veem apenas as próprias")
@@ -50,11 +58,69 @@ public class VacationController {
         return ResponseEntity.ok(vacationService.findAll(pageable));
     }
 
+    @GetMapping("/pending")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(summary = "Fila de aprovação", description = "Retorna as solicitações pendentes, da mais antiga para a mais recente, paginadas por cursor. Gerentes veem apenas a própria equipe")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Fila de solicitações pendentes retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Sem permissão para ver a fila de aprovação",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<KeysetPageResponse<VacationResponse>> findPending(
+            @Parameter(description = "Cursor retornado pela página anterior (omitir na primeira página)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de itens por página (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(vacationService.findPending(cursor, size));
+    }
+
+    @GetMapping("/changes")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Alterações desde um cursor", description = "Retorna as solicitações de férias criadas ou alteradas depois do cursor informado, para sincronização incremental de integrações. Omita 'since' na primeira sincronização e guarde o cursor retornado para a próxima. Requer permissão de administrador")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Alterações retornadas com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Sem permissão de administrador",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "503", description = "Há alterações retidas por uma transação ainda em andamento; tente novamente após o tempo indicado em Retry-After",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<VacationChangesResponse> findChanges(
+            @Parameter(description = "Cursor retornado pela sincronização anterior (omitir na primeira)")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Quantidade máxima de alterações (1-100)", example = "100")
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(vacationService.findChanges(since, size));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream de alterações", description = "Abre um stream Server-Sent Events com as alterações de solicitações de férias (criação, edição, cancelamento, aprovação e rejeição). Administradores recebem todas; gerentes, as de toda a sua hierarquia; colaboradores, as próprias. Envie Last-Event-ID ao reconectar para receber os eventos perdidos; um evento 'reset' indica que o cliente deve recarregar os dados")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Stream aberto",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                schema = @Schema(implementation = VacationEventResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Token inválido ou expirado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public SseEmitter stream(
+            @Parameter(description = "ID do último evento recebido, para retomar o stream")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return vacationEventStream.subscribe(lastEventId);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Obter solicitação por ID", description = "Retorna os detalhes de uma solicitação de férias específica")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Solicitação encontrada", 
             content = @Content(schema = @Schema(implementation = VacationResponse.class))),
+        @ApiResponse(responseCode = "304", description = "Recurso não modificado desde a versão informada em If-None-Match"),
         @ApiResponse(responseCode = "401", description = "Token inválido ou expirado", 
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "404", description = "Solicitação não encontrada", 
@@ -62,8 +128,13 @@ public class VacationController {
     })
     public ResponseEntity<VacationResponse> findById(
             @Parameter(description = "ID da solicitação de férias", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
-            @PathVariable UUID id) {
-        return ResponseEntity.ok(vacationService.findById(id));
+            @PathVariable UUID id,
+            WebRequest webRequest) {
+        String etag = vacationService.findETagById(id);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(vacationService.findById(id));
     }
 
     @GetMapping("/calendar")
@@ -0,0 +1,20 @@
+package com.eltonsantos.backend.dto.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Rows are validated one by one by the service, so a single invalid row is reported in the
+ * results instead of rejecting the whole batch.
+ */
+@Schema(description = "Dados para criação de usuários em lote (Admin only)")
+public record BatchCreateUserRequest(
+        @ArraySchema(schema = @Schema(implementation = CreateUserRequest.class),
+                arraySchema = @Schema(description = "Usuários a criar, com as mesmas regras de POST /users"))
+        @NotEmpty(message = "Informe ao menos um usuário")
+        List<@NotNull CreateUserRequest> users
+) {}
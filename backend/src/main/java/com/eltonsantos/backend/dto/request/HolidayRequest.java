@@ -0,0 +1,20 @@
+package com.eltonsantos.backend.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+
+@Schema(description = "Dados para cadastro de feriado")
+public record HolidayRequest(
+        @Schema(description = "Data do feriado", example = "2026-04-21", requiredMode = Schema.RequiredMode.REQUIRED, format = "date")
+        @NotNull(message = "Date is required")
+        LocalDate date,
+
+        @Schema(description = "Nome do feriado", example = "Tiradentes", requiredMode = Schema.RequiredMode.REQUIRED, maxLength = 255)
+        @NotBlank(message = "Name is required")
+        @Size(max = 255, message = "Name must be at most 255 characters")
+        String name
+) {}
@@ -36,8 +36,8 @@ public record AuditLogResponse(
     public static AuditLogResponse fromEntity(AuditLog log) {
         return new AuditLogResponse(
                 log.getId(),
-                log.getActor().getId(),
-                log.getActor().getEmail(),
+                log.getActorUserId(),
+                log.getActorEmail(),
                 log.getAction(),
                 log.getEntityType(),
                 log.getEntityId(),
@@ -0,0 +1,42 @@
+package com.eltonsantos.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Resultado da reconciliação dos saldos com as férias aprovadas")
+public record BalanceReconciliationResponse(
+        @Schema(description = "Indica se foi apenas uma simulação (nenhum saldo alterado)", example = "true")
+        boolean dryRun,
+
+        @Schema(description = "Colaboradores verificados", example = "1200")
+        int employeesScanned,
+
+        @Schema(description = "Saldos com dias usados divergentes", example = "3")
+        int driftedBalances,
+
+        @Schema(description = "Saldos corrigidos (0 em simulação)", example = "3")
+        int correctedBalances,
+
+        @Schema(description = "Duração da execução em milissegundos", example = "840")
+        long durationMs,
+
+        @Schema(description = "Divergências encontradas (limitadas às primeiras do relatório)")
+        List<Drift> drifts
+) {
+    @Schema(description = "Divergência de um saldo")
+    public record Drift(
+            @Schema(description = "ID do colaborador", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID employeeId,
+
+            @Schema(description = "Ano do saldo", example = "2026")
+            int year,
+
+            @Schema(description = "Dias usados gravados no saldo", example = "12")
+            int storedUsedDays,
+
+            @Schema(description = "Dias úteis das férias aprovadas no ano", example = "10")
+            int expectedUsedDays
+    ) {}
+}
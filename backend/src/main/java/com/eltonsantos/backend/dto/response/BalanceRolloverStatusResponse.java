@@ -0,0 +1,43 @@
+package com.eltonsantos.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Progresso da virada de ano dos saldos de férias")
+public record BalanceRolloverStatusResponse(
+        @Schema(description = "Situação da execução", example = "RUNNING")
+        State state,
+
+        @Schema(description = "Ano cujos saldos estão sendo criados", example = "2027")
+        Integer year,
+
+        @Schema(description = "Total de colaboradores ativos no início da execução", example = "1200")
+        long totalEmployees,
+
+        @Schema(description = "Colaboradores já processados", example = "500")
+        long processedEmployees,
+
+        @Schema(description = "Saldos criados (saldos já existentes não são recriados)", example = "498")
+        long createdBalances,
+
+        @Schema(description = "Saldos cujo saldo transferido foi recalculado com o saldo final do ano anterior", example = "12")
+        long adjustedBalances,
+
+        @Schema(description = "Início da execução", example = "2026-12-01T02:00:00")
+        LocalDateTime startedAt,
+
+        @Schema(description = "Fim da execução (nulo enquanto em andamento)", example = "2026-12-01T02:00:04")
+        LocalDateTime finishedAt,
+
+        @Schema(description = "Mensagem de erro, se a execução falhou")
+        String error
+) {
+    public enum State {
+        IDLE, RUNNING, COMPLETED, FAILED
+    }
+
+    public static BalanceRolloverStatusResponse idle() {
+        return new BalanceRolloverStatusResponse(State.IDLE, null, 0, 0, 0, 0, null, null, null);
+    }
+}
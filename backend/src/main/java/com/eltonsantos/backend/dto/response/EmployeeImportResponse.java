@@ -0,0 +1,32 @@
+package com.eltonsantos.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Resultado da importação de colaboradores via CSV")
+public record EmployeeImportResponse(
+        @Schema(description = "Linhas de dados lidas (sem o cabeçalho)", example = "1500")
+        int totalRows,
+
+        @Schema(description = "Colaboradores criados", example = "1497")
+        int imported,
+
+        @Schema(description = "Linhas rejeitadas", example = "3")
+        int failed,
+
+        @Schema(description = "Erros por linha (limitados aos primeiros do relatório)")
+        List<RowError> errors
+) {
+    @Schema(description = "Erro de uma linha do arquivo")
+    public record RowError(
+            @Schema(description = "Linha do arquivo (1 = cabeçalho)", example = "42")
+            long line,
+
+            @Schema(description = "Email informado na linha", example = "carlos.oliveira@empresa.com")
+            String email,
+
+            @Schema(description = "Motivo da rejeição", example = "Employee with this email already exists")
+            String message
+    ) {}
+}
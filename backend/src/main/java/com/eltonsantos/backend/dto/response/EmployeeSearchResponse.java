@@ -0,0 +1,20 @@
+package com.eltonsantos.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Colaborador encontrado na busca, com a relevância do resultado")
+public record EmployeeSearchResponse(
+        @Schema(description = "ID único do colaborador", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID id,
+
+        @Schema(description = "Nome completo", example = "Maria Silva")
+        String fullName,
+
+        @Schema(description = "Email", example = "maria.silva@empresa.com")
+        String email,
+
+        @Schema(description = "Relevância (similaridade de trigramas, 0 a 1)", example = "0.58")
+        double score
+) {}
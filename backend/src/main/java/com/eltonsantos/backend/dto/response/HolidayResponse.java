@@ -0,0 +1,27 @@
+package com.eltonsantos.backend.dto.response;
+
+import com.eltonsantos.backend.entity.Holiday;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Schema(description = "Feriado considerado no cálculo de dias úteis")
+public record HolidayResponse(
+        @Schema(description = "ID único do feriado", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID id,
+
+        @Schema(description = "Data do feriado", example = "2026-04-21", format = "date")
+        LocalDate date,
+
+        @Schema(description = "Nome do feriado", example = "Tiradentes")
+        String name
+) {
+    public static HolidayResponse fromEntity(Holiday holiday) {
+        return new HolidayResponse(
+                holiday.getId(),
+                holiday.getDate(),
+                holiday.getName()
+        );
+    }
+}
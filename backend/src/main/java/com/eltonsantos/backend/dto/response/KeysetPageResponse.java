@@ -0,0 +1,37 @@
+package com.eltonsantos.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Schema(description = "Página navegada por cursor (keyset): use nextCursor para buscar a próxima página")
+public record KeysetPageResponse<T>(
+        @Schema(description = "Lista de itens da página atual")
+        List<T> content,
+
+        @Schema(description = "Quantidade de itens por página", example = "20")
+        int size,
+
+        @Schema(description = "Cursor opaco para a próxima página (nulo na última página)", example = "MjAyNi0wMS0yMFQwOTowMDp8NTUwZTg0MDAtZTI5Yi00MWQ0LWE3MTYtNDQ2NjU1NDQwMDAw")
+        String nextCursor,
+
+        @Schema(description = "Indica se existem mais itens após esta página", example = "true")
+        boolean hasNext
+) {
+    /**
+     * Builds a page from {@code rows} fetched with {@code size + 1} as limit: the extra row,
+     * if present, only signals that there is a next page.
+     */
+    public static <E, T> KeysetPageResponse<T> from(List<E> rows, int size, Function<E, T> mapper,
+                                                     Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        return new KeysetPageResponse<>(
+                page.stream().map(mapper).toList(),
+                size,
+                hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null,
+                hasNext
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package com.eltonsantos.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Resultado da criação de usuários em lote")
+public record UserBatchResponse(
+        @Schema(description = "Usuários recebidos", example = "1000")
+        int total,
+
+        @Schema(description = "Usuários criados", example = "998")
+        int created,
+
+        @Schema(description = "Usuários rejeitados", example = "2")
+        int failed,
+
+        @Schema(description = "Duração total do processamento em milissegundos", example = "4210")
+        long durationMs,
+
+        @Schema(description = "Vazão: usuários criados por segundo", example = "237.1")
+        double usersPerSecond,
+
+        @Schema(description = "Resultado de cada usuário, na ordem do pedido")
+        List<RowResult> results
+) {
+    @Schema(description = "Resultado de um usuário do lote")
+    public record RowResult(
+            @Schema(description = "Posição no lote (começando em 0)", example = "0")
+            int index,
+
+            @Schema(description = "Email informado", example = "maria.santos@empresa.com")
+            String email,
+
+            @Schema(description = "Se o usuário foi criado", example = "true")
+            boolean created,
+
+            @Schema(description = "ID do usuário criado", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID userId,
+
+            @Schema(description = "Motivo da rejeição", example = "Email já está em uso")
+            String message
+    ) {
+        public static RowResult created(int index, String email, UUID userId) {
+            return new RowResult(index, email, true, userId, null);
+        }
+
+        public static RowResult failed(int index, String email, String message) {
+            return new RowResult(index, email, false, null, message);
+        }
+    }
+}
@@ -40,11 +40,15 @@ public record UserResponse(
     }
 
     public static UserResponse fromEntity(User user, Employee employee) {
+        return fromEntity(user, employee != null ? employee.getId() : null);
+    }
+
+    public static UserResponse fromEntity(User user, UUID employeeId) {
         return new UserResponse(
                 user.getId(),
                 user.getEmail(),
                 user.getRole(),
-                employee != null ? employee.getId() : null,
+                employeeId,
                 user.getCreatedAt(),
                 user.getUpdatedAt()
         );
@@ -0,0 +1,17 @@
+package com.eltonsantos.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Solicitações de férias alteradas desde o cursor informado")
+public record VacationChangesResponse(
+        @Schema(description = "Solicitações alteradas, na ordem em que as alterações foram confirmadas")
+        List<VacationResponse> changes,
+
+        @Schema(description = "Cursor a ser enviado em 'since' na próxima sincronização (sempre presente)", example = "MTAyNDV8NTUwZTg0MDAtZTI5Yi00MWQ0LWE3MTYtNDQ2NjU1NDQwMDAw")
+        String cursor,
+
+        @Schema(description = "Indica se existem mais alterações a buscar imediatamente", example = "false")
+        boolean hasMore
+) {}
@@ -0,0 +1,45 @@
+package com.eltonsantos.backend.dto.response;
+
+import com.eltonsantos.backend.enums.VacationStatus;
+import com.eltonsantos.backend.event.VacationChangedEvent;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Evento de alteração de uma solicitação de férias enviado pelo stream")
+public record VacationEventResponse(
+        @Schema(description = "Tipo do evento", example = "APPROVED")
+        VacationChangedEvent.Type type,
+
+        @Schema(description = "ID da solicitação de férias", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID vacationId,
+
+        @Schema(description = "ID do colaborador", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID employeeId,
+
+        @Schema(description = "Status da solicitação após o evento", example = "APPROVED")
+        VacationStatus status,
+
+        @Schema(description = "Data de início das férias", example = "2026-03-01", format = "date")
+        LocalDate startDate,
+
+        @Schema(description = "Data de término das férias", example = "2026-03-15", format = "date")
+        LocalDate endDate,
+
+        @Schema(description = "Data e hora do evento", example = "2026-01-23T14:30:00")
+        LocalDateTime occurredAt
+) {
+    public static VacationEventResponse fromEvent(VacationChangedEvent event) {
+        return new VacationEventResponse(
+                event.type(),
+                event.vacationId(),
+                event.employeeId(),
+                event.status(),
+                event.startDate(),
+                event.endDate(),
+                event.occurredAt()
+        );
+    }
+}
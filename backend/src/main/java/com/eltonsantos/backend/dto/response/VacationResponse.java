@@ -28,7 +28,7 @@ public record VacationResponse(
         @Schema(description = "Data de término das férias", example = "2026-03-15", format = "date")
         LocalDate endDate,
 
-        @Schema(description = "Quantidade de dias de férias", example = "15")
+        @Schema(description = "Quantidade de dias úteis de férias (exclui fins de semana e feriados)", example = "11")
         long daysCount,
 
         @Schema(description = "Status atual da solicitação", example = "PENDING")
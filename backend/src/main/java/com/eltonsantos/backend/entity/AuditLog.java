@@ -12,9 +12,10 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "audit_logs", indexes = {
-    @Index(name = "idx_audit_logs_actor", columnList = "actor_user_id"),
-    @Index(name = "idx_audit_logs_entity", columnList = "entity_type, entity_id"),
-    @Index(name = "idx_audit_logs_created_at", columnList = "created_at")
+    @Index(name = "idx_audit_logs_entity_type_created", columnList = "entity_type, created_at DESC, id DESC"),
+    @Index(name = "idx_audit_logs_actor_created", columnList = "actor_user_id, created_at DESC, id DESC"),
+    @Index(name = "idx_audit_logs_entity_created", columnList = "entity_type, entity_id, created_at DESC, id DESC"),
+    @Index(name = "idx_audit_logs_created_at", columnList = "created_at DESC")
 })
 @Getter
 @Setter
@@ -27,9 +28,12 @@ public class AuditLog {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "actor_user_id", nullable = false)
-    private User actor;
+    // Plain columns rather than an association: entries outlive their actor and are read without joining users
+    @Column(name = "actor_user_id", nullable = false)
+    private UUID actorUserId;
+
+    @Column(name = "actor_email", nullable = false)
+    private String actorEmail;
 
     @Column(nullable = false)
     private String action;
@@ -0,0 +1,44 @@
+package com.eltonsantos.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Read-only mapping of the {@code reporting_chain} closure table, used to join
+ * "employees below a manager" in JPQL. Rows are maintained by
+ * {@link com.eltonsantos.backend.repository.ReportingChainRepository}.
+ */
+@Entity
+@Immutable
+@Table(name = "reporting_chain")
+@IdClass(ReportingChain.Key.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportingChain {
+
+    @Id
+    @Column(name = "ancestor_user_id", nullable = false)
+    private UUID ancestorUserId;
+
+    @Id
+    @Column(name = "employee_id", nullable = false)
+    private UUID employeeId;
+
+    @Column(nullable = false)
+    private Integer depth;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID ancestorUserId;
+        private UUID employeeId;
+    }
+}
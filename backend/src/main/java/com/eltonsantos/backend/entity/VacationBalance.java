@@ -39,6 +39,9 @@ public class VacationBalance {
     @Builder.Default
     private Integer remainingDays = 22;
 
+    @Version
+    private Long version;
+
     public void deductDays(int days) {
         this.usedDays += days;
         this.remainingDays = this.entitledDays - this.usedDays;
@@ -11,7 +11,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "vacation_requests", indexes = {
-    @Index(name = "idx_vacation_requests_employee_dates", columnList = "employee_id, start_date, end_date")
+    @Index(name = "idx_vacation_requests_employee_dates", columnList = "employee_id, start_date, end_date"),
+    @Index(name = "idx_vacation_requests_dates", columnList = "start_date, end_date")
 })
 @Getter
 @Setter
@@ -20,6 +21,12 @@ import java.util.UUID;
 @Builder
 public class VacationRequest {
 
+    /**
+     * Maximum number of days between start and end date (enforced by the check_span constraint).
+     * Bounds how far back an overlapping request can start, which enables partition pruning.
+     */
+    public static final int MAX_SPAN_DAYS = 365;
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -34,6 +41,10 @@ public class VacationRequest {
     @Column(name = "end_date", nullable = false)
     private LocalDate endDate;
 
+    /** Business days charged against the balance, computed when the request is saved or approved. */
+    @Column(name = "business_days", nullable = false)
+    private Integer businessDays;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @Builder.Default
@@ -60,6 +71,9 @@ public class VacationRequest {
     private Long version;
 
     public long getDaysCount() {
+        if (businessDays != null) {
+            return businessDays;
+        }
         return java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate) + 1;
     }
 }
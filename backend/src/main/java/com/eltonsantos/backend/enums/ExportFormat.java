@@ -0,0 +1,28 @@
+package com.eltonsantos.backend.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Formato de exportação", enumAsRef = true)
+public enum ExportFormat {
+    @Schema(description = "CSV com cabeçalho (UTF-8)")
+    CSV("text/csv", "csv"),
+
+    @Schema(description = "Um objeto JSON por linha (NDJSON)")
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,27 @@
+package com.eltonsantos.backend.event;
+
+import com.eltonsantos.backend.entity.Employee;
+
+import java.util.UUID;
+
+/**
+ * Published when an employee is created or its manager, user link or active flag may have changed.
+ * {@code previousUserId} is the user the employee was linked to before, when the link may have
+ * changed.
+ */
+public record EmployeeChangedEvent(UUID employeeId, UUID managerId, UUID userId, UUID previousUserId,
+                                   boolean active) {
+
+    public static EmployeeChangedEvent of(Employee employee) {
+        return of(employee, null);
+    }
+
+    public static EmployeeChangedEvent of(Employee employee, UUID previousUserId) {
+        return new EmployeeChangedEvent(
+                employee.getId(),
+                employee.getManager() != null ? employee.getManager().getId() : null,
+                employee.getUser() != null ? employee.getUser().getId() : null,
+                previousUserId,
+                Boolean.TRUE.equals(employee.getActive()));
+    }
+}
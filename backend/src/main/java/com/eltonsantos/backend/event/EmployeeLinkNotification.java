@@ -0,0 +1,18 @@
+package com.eltonsantos.backend.event;
+
+import java.util.UUID;
+
+/**
+ * Payload of the {@code employee_links} database notification, sent on commit by the employees
+ * trigger for every change to an employee's manager, user link or active flag, whichever node
+ * made it. {@code previousUserId} is the user the employee was linked to before the change.
+ */
+public record EmployeeLinkNotification(UUID employeeId, UUID managerId, UUID userId, UUID previousUserId,
+                                       boolean active) {
+
+    public static final String CHANNEL = "employee_links";
+
+    public EmployeeChangedEvent toEvent() {
+        return new EmployeeChangedEvent(employeeId, managerId, userId, previousUserId, active);
+    }
+}
@@ -0,0 +1,8 @@
+package com.eltonsantos.backend.event;
+
+import java.time.LocalDate;
+
+/**
+ * Published when a public holiday is added or removed.
+ */
+public record HolidayChangedEvent(LocalDate date, boolean added) {}
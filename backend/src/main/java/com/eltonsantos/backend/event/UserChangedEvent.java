@@ -0,0 +1,8 @@
+package com.eltonsantos.backend.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a user is created or its email or role changes.
+ */
+public record UserChangedEvent(UUID userId) {}
@@ -0,0 +1,8 @@
+package com.eltonsantos.backend.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a user is deleted. The database clears the employees' references to it.
+ */
+public record UserDeletedEvent(UUID userId) {}
@@ -0,0 +1,36 @@
+package com.eltonsantos.backend.event;
+
+import com.eltonsantos.backend.enums.VacationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Payload of the {@code vacation_changes} database notification, sent on commit by the
+ * vacation_requests trigger for every change, whichever node made it. {@code seq} is the row's
+ * change_seq, which together with the vacation id identifies the change on every node.
+ */
+public record VacationChangeNotification(
+        long seq,
+        VacationChangedEvent.Type type,
+        UUID vacationId,
+        UUID employeeId,
+        UUID employeeUserId,
+        UUID managerId,
+        VacationStatus status,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDateTime occurredAt
+) {
+    public static final String CHANNEL = "vacation_changes";
+
+    public String eventId() {
+        return seq + "-" + vacationId;
+    }
+
+    public VacationChangedEvent toEvent() {
+        return new VacationChangedEvent(type, vacationId, employeeId, employeeUserId, managerId, status,
+                startDate, endDate, occurredAt);
+    }
+}
@@ -0,0 +1,28 @@
+package com.eltonsantos.backend.event;
+
+import com.eltonsantos.backend.enums.VacationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A vacation change as streamed to clients, built from the database notification
+ * ({@link VacationChangeNotification}). Carries the ids needed to decide who may see it
+ * (the employee's user and manager) so the stream does not have to load the request again.
+ */
+public record VacationChangedEvent(
+        Type type,
+        UUID vacationId,
+        UUID employeeId,
+        UUID employeeUserId,
+        UUID managerId,
+        VacationStatus status,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDateTime occurredAt
+) {
+    public enum Type {
+        CREATED, UPDATED, CANCELLED, APPROVED, REJECTED
+    }
+}
@@ -0,0 +1,23 @@
+package com.eltonsantos.backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * The request cannot be served right now but may succeed later; answered with a
+ * {@code Retry-After} header.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class RetryLaterException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RetryLaterException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,23 @@
+package com.eltonsantos.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PostgreSQL advisory locks. Locks are transaction-scoped: they are released
+ * automatically on commit or rollback, so callers must run inside a transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AdvisoryLockRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Blocks until the lock identified by (namespace, key) is granted to the current transaction.
+     */
+    public void lockForTransaction(int namespace, int key) {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?, ?)", rs -> null, namespace, key);
+    }
+}
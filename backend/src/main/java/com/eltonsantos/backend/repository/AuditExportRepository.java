@@ -0,0 +1,69 @@
+package com.eltonsantos.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Streams audit entries for exports: one query over audit_logs alone, read through a server-side
+ * cursor. Metadata is passed on as the JSON text stored in the database, never parsed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditExportRepository {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record AuditExportRow(UUID id, UUID actorUserId, String actorEmail, String action, String entityType,
+                                 UUID entityId, String metadataJson, LocalDateTime createdAt) {}
+
+    @FunctionalInterface
+    public interface RowWriter {
+        void write(AuditExportRow row) throws IOException;
+    }
+
+    /**
+     * Writes the entries created in [from, to), oldest first. The range prunes the monthly
+     * partitions; the read-only transaction makes the driver honour the fetch size.
+     */
+    @Transactional(readOnly = true)
+    public void forEachInRange(LocalDateTime from, LocalDateTime to, RowWriter writer) {
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement("""
+                    SELECT al.id, al.actor_user_id, al.actor_email, al.action, al.entity_type,
+                           al.entity_id, al.metadata::text AS metadata, al.created_at
+                    FROM audit_logs al
+                    WHERE al.created_at >= ? AND al.created_at < ?
+                    ORDER BY al.created_at, al.id
+                    """);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setTimestamp(1, Timestamp.valueOf(from));
+            ps.setTimestamp(2, Timestamp.valueOf(to));
+            return ps;
+        }, rs -> {
+            try {
+                writer.write(new AuditExportRow(
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("actor_user_id", UUID.class),
+                        rs.getString("actor_email"),
+                        rs.getString("action"),
+                        rs.getString("entity_type"),
+                        rs.getObject("entity_id", UUID.class),
+                        rs.getString("metadata"),
+                        rs.getTimestamp("created_at").toLocalDateTime()));
+            } catch (IOException e) {
+                // Client went away; abort the query instead of reading the rest of the cursor
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package com.eltonsantos.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Batch inserts of audit entries shipped from the local journal. Ids and timestamps are assigned
+ * when the entry is logged, so shipping the same entry twice (after a crash between the insert and
+ * the checkpoint) leaves a single row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditLogBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record NewAuditLog(UUID id, UUID actorUserId, String actorEmail, String action, String entityType,
+                              UUID entityId, String metadataJson, LocalDateTime createdAt) {}
+
+    public void insertAll(List<NewAuditLog> entries) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO audit_logs (id, actor_user_id, actor_email, action, entity_type, entity_id, metadata, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?::jsonb, ?)
+                ON CONFLICT (id, created_at) DO NOTHING
+                """, entries, entries.size(), (ps, entry) -> {
+            ps.setObject(1, entry.id());
+            ps.setObject(2, entry.actorUserId());
+            ps.setString(3, entry.actorEmail());
+            ps.setString(4, entry.action());
+            ps.setString(5, entry.entityType());
+            ps.setObject(6, entry.entityId());
+            ps.setString(7, entry.metadataJson());
+            ps.setTimestamp(8, Timestamp.valueOf(entry.createdAt()));
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package com.eltonsantos.backend.repository;
 
 import com.eltonsantos.backend.entity.AuditLog;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,17 +16,73 @@ import java.util.UUID;
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
 
-    Page<AuditLog> findByActorId(UUID actorId, Pageable pageable);
+    /*
+     * Keyset pages, newest first (created_at DESC, id DESC). Each filter has a composite index in
+     * that exact order, so a page is read straight from the index without a sort. The first page
+     * has no cursor; the next ones continue strictly before the last row returned.
+     */
 
-    Page<AuditLog> findByEntityTypeAndEntityId(String entityType, UUID entityId, Pageable pageable);
+    @Query("SELECT al FROM AuditLog al WHERE al.entityType = :entityType "
+           + "ORDER BY al.createdAt DESC, al.id DESC")
+    List<AuditLog> findPageByEntityType(@Param("entityType") String entityType, Limit limit);
 
-    @Query("SELECT al FROM AuditLog al WHERE al.entityType = :entityType")
-    Page<AuditLog> findByEntityType(@Param("entityType") String entityType, Pageable pageable);
+    @Query("SELECT al FROM AuditLog al WHERE al.entityType = :entityType "
+           + "AND (al.createdAt, al.id) < (:beforeCreatedAt, :beforeId) "
+           + "ORDER BY al.createdAt DESC, al.id DESC")
+    List<AuditLog> findPageByEntityTypeBefore(
+            @Param("entityType") String entityType,
+            @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+            @Param("beforeId") UUID beforeId,
+            Limit limit);
 
-    @Query("SELECT al FROM AuditLog al WHERE al.createdAt BETWEEN :startDate AND :endDate ORDER BY al.createdAt DESC")
-    List<AuditLog> findByDateRange(
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate);
+    @Query("SELECT al FROM AuditLog al WHERE al.actorUserId = :actorId "
+           + "ORDER BY al.createdAt DESC, al.id DESC")
+    List<AuditLog> findPageByActorId(@Param("actorId") UUID actorId, Limit limit);
+
+    @Query("SELECT al FROM AuditLog al WHERE al.actorUserId = :actorId "
+           + "AND (al.createdAt, al.id) < (:beforeCreatedAt, :beforeId) "
+           + "ORDER BY al.createdAt DESC, al.id DESC")
+    List<AuditLog> findPageByActorIdBefore(
+            @Param("actorId") UUID actorId,
+            @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+            @Param("beforeId") UUID beforeId,
+            Limit limit);
+
+    @Query("SELECT al FROM AuditLog al WHERE al.entityType = :entityType "
+           + "AND al.entityId = :entityId ORDER BY al.createdAt DESC, al.id DESC")
+    List<AuditLog> findPageByEntity(
+            @Param("entityType") String entityType,
+            @Param("entityId") UUID entityId,
+            Limit limit);
+
+    @Query("SELECT al FROM AuditLog al WHERE al.entityType = :entityType "
+           + "AND al.entityId = :entityId AND (al.createdAt, al.id) < (:beforeCreatedAt, :beforeId) "
+           + "ORDER BY al.createdAt DESC, al.id DESC")
+    List<AuditLog> findPageByEntityBefore(
+            @Param("entityType") String entityType,
+            @Param("entityId") UUID entityId,
+            @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+            @Param("beforeId") UUID beforeId,
+            Limit limit);
+
+    /**
+     * Entries created in [from, to). The lower bound lets PostgreSQL skip the older monthly partitions.
+     */
+    @Query(value = "SELECT al FROM AuditLog al WHERE al.createdAt >= :from AND al.createdAt < :to",
+           countQuery = "SELECT COUNT(al) FROM AuditLog al WHERE al.createdAt >= :from AND al.createdAt < :to")
+    Page<AuditLog> findByCreatedAtRange(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable);
+
+    @Query(value = "SELECT al FROM AuditLog al WHERE al.entityType = :entityType "
+                   + "AND al.createdAt >= :from AND al.createdAt < :to",
+           countQuery = "SELECT COUNT(al) FROM AuditLog al WHERE al.entityType = :entityType "
+                   + "AND al.createdAt >= :from AND al.createdAt < :to")
+    Page<AuditLog> findByEntityTypeAndCreatedAtRange(
+            @Param("entityType") String entityType,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable);
 
-    Page<AuditLog> findAllByOrderByCreatedAtDesc(Pageable pageable);
 }
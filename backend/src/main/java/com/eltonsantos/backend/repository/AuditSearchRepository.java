@@ -0,0 +1,112 @@
+package com.eltonsantos.backend.repository;
+
+import com.eltonsantos.backend.dto.response.AuditLogResponse;
+import com.eltonsantos.backend.util.KeysetCursor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Audit search over the jsonb metadata, backed by the GIN index on audit_logs.metadata.
+ * Results are newest first and paged by keyset on (created_at, id).
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditSearchRepository {
+
+    private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Filters, all optional except the time range. {@code containsJson} is a JSON object the
+     * metadata must contain, {@code keys} top-level keys it must all have and {@code jsonPath}
+     * a jsonpath predicate it must match (e.g. {@code $.days > 10}).
+     */
+    public record Criteria(String action, String entityType, String containsJson, List<String> keys,
+                           String jsonPath, LocalDateTime from, LocalDateTime to) {}
+
+    public List<AuditLogResponse> search(Criteria criteria, KeysetCursor before, int limit) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT id, actor_user_id, actor_email, action, entity_type, entity_id, metadata::text AS metadata, created_at
+                FROM audit_logs
+                WHERE created_at >= ? AND created_at < ?
+                """);
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.valueOf(criteria.from()));
+        args.add(Timestamp.valueOf(criteria.to()));
+
+        if (criteria.action() != null) {
+            sql.append(" AND action = ?");
+            args.add(criteria.action());
+        }
+        if (criteria.entityType() != null) {
+            sql.append(" AND entity_type = ?");
+            args.add(criteria.entityType());
+        }
+        if (criteria.containsJson() != null) {
+            sql.append(" AND metadata @> ?::jsonb");
+            args.add(criteria.containsJson());
+        }
+        if (criteria.keys() != null && !criteria.keys().isEmpty()) {
+            // ?? is the JDBC escape for the ? family of jsonb operators
+            sql.append(" AND metadata ??& ?::text[]");
+            args.add(criteria.keys());
+        }
+        if (criteria.jsonPath() != null) {
+            sql.append(" AND metadata @@ ?::jsonpath");
+            args.add(criteria.jsonPath());
+        }
+        if (before != null) {
+            sql.append(" AND (created_at, id) < (?, ?)");
+            args.add(Timestamp.valueOf(before.timestamp()));
+            args.add(before.id());
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(sql.toString());
+            for (int i = 0; i < args.size(); i++) {
+                Object arg = args.get(i);
+                if (arg instanceof List<?> list) {
+                    ps.setArray(i + 1, con.createArrayOf("text", list.toArray()));
+                } else {
+                    ps.setObject(i + 1, arg);
+                }
+            }
+            return ps;
+        }, (rs, i) -> new AuditLogResponse(
+                rs.getObject("id", UUID.class),
+                rs.getObject("actor_user_id", UUID.class),
+                rs.getString("actor_email"),
+                rs.getString("action"),
+                rs.getString("entity_type"),
+                rs.getObject("entity_id", UUID.class),
+                parseMetadata(rs.getString("metadata")),
+                rs.getTimestamp("created_at").toLocalDateTime()));
+    }
+
+    private Map<String, Object> parseMetadata(String json) throws SQLException {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, METADATA_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new SQLException("Unreadable audit metadata", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.eltonsantos.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Compares stored balances with the days of approved vacation requests.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BalanceReconciliationRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * A balance whose stored used days differ from the business days of the employee's
+     * approved requests starting in that year.
+     */
+    public record Drift(UUID balanceId, UUID employeeId, int year, int storedUsedDays, int expectedUsedDays) {}
+
+    public List<UUID> findAllEmployeeIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM employees ORDER BY id", UUID.class);
+    }
+
+    public List<Drift> findDrift(Collection<UUID> employeeIds) {
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement("""
+                    SELECT b.id, b.employee_id, b.year, b.used_days, COALESCE(a.used_days, 0) AS expected
+                    FROM vacation_balances b
+                    LEFT JOIN (
+                        SELECT employee_id, EXTRACT(YEAR FROM start_date)::INTEGER AS year,
+                               SUM(business_days)::INTEGER AS used_days
+                        FROM vacation_requests
+                        WHERE status = 'APPROVED' AND employee_id = ANY(?)
+                        GROUP BY employee_id, EXTRACT(YEAR FROM start_date)
+                    ) a ON a.employee_id = b.employee_id AND a.year = b.year
+                    WHERE b.employee_id = ANY(?) AND b.used_days <> COALESCE(a.used_days, 0)
+                    ORDER BY b.employee_id, b.year
+                    """);
+            var ids = con.createArrayOf("uuid", employeeIds.toArray());
+            ps.setArray(1, ids);
+            ps.setArray(2, ids);
+            return ps;
+        }, (rs, i) -> new Drift(
+                rs.getObject("id", UUID.class),
+                rs.getObject("employee_id", UUID.class),
+                rs.getInt("year"),
+                rs.getInt("used_days"),
+                rs.getInt("expected")));
+    }
+
+    /**
+     * Applies the corrections in one batch. Each update only matches while used_days still has
+     * the value the drift was computed from, so balances changed in the meantime are skipped.
+     *
+     * @return the drifts that were corrected
+     */
+    public List<Drift> applyCorrections(List<Drift> drifts) {
+        if (drifts.isEmpty()) {
+            return List.of();
+        }
+        int[] updated = jdbcTemplate.batchUpdate("""
+                UPDATE vacation_balances
+                SET used_days = ?, remaining_days = entitled_days - ?, version = version + 1
+                WHERE id = ? AND used_days = ?
+                """, drifts, drifts.size(), (ps, drift) -> {
+            ps.setInt(1, drift.expectedUsedDays());
+            ps.setInt(2, drift.expectedUsedDays());
+            ps.setObject(3, drift.balanceId());
+            ps.setInt(4, drift.storedUsedDays());
+        })[0];
+        return IntStream.range(0, drifts.size())
+                .filter(i -> updated[i] > 0)
+                .mapToObj(drifts::get)
+                .toList();
+    }
+}
@@ -0,0 +1,93 @@
+package com.eltonsantos.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based creation of vacation balances for a year.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BalanceRolloverRepository {
+
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long countActiveEmployees() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees WHERE active = true", Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Next chunk of active employee ids in primary-key order, starting after {@code afterId}
+     * ({@code null} for the first chunk).
+     */
+    public List<UUID> findActiveEmployeeIdsAfter(UUID afterId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM employees WHERE active = true AND id > ? ORDER BY id LIMIT ?",
+                UUID.class, afterId != null ? afterId : FIRST_ID, limit);
+    }
+
+    /**
+     * Creates the {@code year} balance of each given employee, in one statement. Entitlement is
+     * {@code entitledDays} plus the previous year's remaining days, capped at {@code maxCarryOverDays}.
+     * Balances that already exist are left untouched, so the call is idempotent. The carry-over
+     * is recorded, so {@link #settleCarryOver} can correct it once the previous year has closed.
+     *
+     * @return number of balances created
+     */
+    public int createBalances(Collection<UUID> employeeIds, int year, int entitledDays, int maxCarryOverDays) {
+        return jdbcTemplate.update("""
+                INSERT INTO vacation_balances (employee_id, year, entitled_days, used_days, remaining_days, carry_over_days)
+                SELECT e.id, ?, ? + c.days, 0, ? + c.days, c.days
+                FROM employees e
+                LEFT JOIN vacation_balances prev ON prev.employee_id = e.id AND prev.year = ?
+                CROSS JOIN LATERAL (
+                    SELECT LEAST(GREATEST(COALESCE(prev.remaining_days, 0), 0), ?) AS days
+                ) c
+                WHERE e.id = ANY(?)
+                ON CONFLICT (employee_id, year) DO NOTHING
+                """, ps -> {
+            ps.setInt(1, year);
+            ps.setInt(2, entitledDays);
+            ps.setInt(3, entitledDays);
+            ps.setInt(4, year - 1);
+            ps.setInt(5, maxCarryOverDays);
+            ps.setArray(6, ps.getConnection().createArrayOf("uuid", employeeIds.toArray()));
+        });
+    }
+
+    /**
+     * Recomputes the carry-over of the given employees' {@code year} balances created by
+     * {@link #createBalances} from the previous year's current remaining days, adjusting
+     * entitled and remaining days by the difference. Balances already right are left untouched.
+     *
+     * @return number of balances adjusted
+     */
+    public int settleCarryOver(Collection<UUID> employeeIds, int year, int maxCarryOverDays) {
+        return jdbcTemplate.update("""
+                UPDATE vacation_balances b
+                SET entitled_days = b.entitled_days - b.carry_over_days + c.days,
+                    remaining_days = b.remaining_days - b.carry_over_days + c.days,
+                    carry_over_days = c.days,
+                    version = b.version + 1
+                FROM (
+                    SELECT cur.id, LEAST(GREATEST(COALESCE(prev.remaining_days, 0), 0), ?) AS days
+                    FROM vacation_balances cur
+                    LEFT JOIN vacation_balances prev ON prev.employee_id = cur.employee_id AND prev.year = cur.year - 1
+                    WHERE cur.year = ? AND cur.employee_id = ANY(?) AND cur.carry_over_days IS NOT NULL
+                ) c
+                WHERE b.id = c.id AND b.carry_over_days <> c.days
+                """, ps -> {
+            ps.setInt(1, maxCarryOverDays);
+            ps.setInt(2, year);
+            ps.setArray(3, ps.getConnection().createArrayOf("uuid", employeeIds.toArray()));
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package com.eltonsantos.backend.repository;
+
+import com.eltonsantos.backend.dto.response.EmployeeResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Streams the employee directory for exports: one joined query read through a server-side
+ * cursor and mapped straight to {@link EmployeeResponse}, without loading entities.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeExportRepository {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private static final String SELECT = """
+            SELECT e.id, e.full_name, e.email, e.manager_id, m.email AS manager_email, e.user_id,
+                   e.active, e.created_at, e.updated_at
+            FROM employees e
+            LEFT JOIN users m ON m.id = e.manager_id
+            """;
+
+    private static final String ORDER = " ORDER BY e.full_name, e.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @FunctionalInterface
+    public interface RowWriter {
+        void write(EmployeeResponse employee) throws IOException;
+    }
+
+    /**
+     * Writes every active employee, or only those below {@code ancestorId} when it is not null,
+     * ordered by name. Runs in a read-only transaction so the driver honours the fetch size.
+     */
+    @Transactional(readOnly = true)
+    public void forEachActive(UUID ancestorId, RowWriter writer) {
+        String sql = ancestorId == null
+                ? SELECT + "WHERE e.active = true" + ORDER
+                : SELECT + "JOIN reporting_chain rc ON rc.employee_id = e.id AND rc.ancestor_user_id = ? "
+                        + "WHERE e.active = true" + ORDER;
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(sql);
+            ps.setFetchSize(FETCH_SIZE);
+            if (ancestorId != null) {
+                ps.setObject(1, ancestorId);
+            }
+            return ps;
+        }, rs -> {
+            try {
+                writer.write(new EmployeeResponse(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("full_name"),
+                        rs.getString("email"),
+                        rs.getObject("manager_id", UUID.class),
+                        rs.getString("manager_email"),
+                        rs.getObject("user_id", UUID.class),
+                        rs.getBoolean("active"),
+                        toLocalDateTime(rs.getTimestamp("created_at")),
+                        toLocalDateTime(rs.getTimestamp("updated_at"))));
+            } catch (IOException e) {
+                // Client went away; abort the query instead of reading the rest of the cursor
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,88 @@
+package com.eltonsantos.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based reads and JDBC batch writes for the CSV employee import.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeImportRepository {
+
+    private static final int FETCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record NewEmployee(UUID id, String fullName, String email, UUID managerId) {}
+
+    public record AuditEntry(UUID entityId, String metadataJson) {}
+
+    /**
+     * Every employee email, to validate the whole file against a single query.
+     */
+    public Set<String> findAllEmails() {
+        Set<String> emails = new HashSet<>();
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement("SELECT email FROM employees");
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            emails.add(rs.getString(1));
+        });
+        return emails;
+    }
+
+    /**
+     * Ids of the users that can be assigned as manager, keyed by email.
+     */
+    public Map<String, UUID> findManagerIdsByEmail() {
+        Map<String, UUID> managers = new HashMap<>();
+        jdbcTemplate.query("SELECT email, id FROM users WHERE role IN ('MANAGER', 'ADMIN')", rs -> {
+            managers.put(rs.getString("email"), rs.getObject("id", UUID.class));
+        });
+        return managers;
+    }
+
+    /**
+     * Inserts the employees in one batch. Rows whose email was taken in the meantime are skipped.
+     *
+     * @return rows inserted per employee, in order (0 when skipped)
+     */
+    public int[] insertEmployees(List<NewEmployee> employees) {
+        return jdbcTemplate.batchUpdate("""
+                INSERT INTO employees (id, full_name, email, manager_id, active)
+                VALUES (?, ?, ?, ?, true)
+                ON CONFLICT (email) DO NOTHING
+                """, employees, employees.size(), (ps, employee) -> {
+            ps.setObject(1, employee.id());
+            ps.setString(2, employee.fullName());
+            ps.setString(3, employee.email());
+            ps.setObject(4, employee.managerId(), Types.OTHER);
+        })[0];
+    }
+
+    public void insertAuditLogs(UUID actorId, String actorEmail, String action, String entityType,
+                                List<AuditEntry> entries) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO audit_logs (actor_user_id, actor_email, action, entity_type, entity_id, metadata)
+                VALUES (?, ?, ?, ?, ?, ?::jsonb)
+                """, entries, entries.size(), (ps, entry) -> {
+            ps.setObject(1, actorId);
+            ps.setString(2, actorEmail);
+            ps.setString(3, action);
+            ps.setString(4, entityType);
+            ps.setObject(5, entry.entityId());
+            ps.setString(6, entry.metadataJson());
+        });
+    }
+}
@@ -8,30 +8,43 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
 
+    /**
+     * Columns an {@code EmployeeResponse} is derived from.
+     */
+    interface VersionView {
+        LocalDateTime getUpdatedAt();
+        LocalDateTime getManagerUpdatedAt();
+    }
+
+    @Query("SELECT e.updatedAt AS updatedAt, m.updatedAt AS managerUpdatedAt " +
+           "FROM Employee e LEFT JOIN e.manager m WHERE e.id = :id")
+    Optional<VersionView> findVersionById(@Param("id") UUID id);
+
     Optional<Employee> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
     Optional<Employee> findByUserId(UUID userId);
 
-    @Query("SELECT e FROM Employee e WHERE e.manager.id = :managerId AND e.active = true")
-    List<Employee> findByManagerId(@Param("managerId") UUID managerId);
+    @Query("SELECT e.id FROM Employee e WHERE e.user.id = :userId")
+    Optional<UUID> findIdByUserId(@Param("userId") UUID userId);
 
-    @Query("SELECT e FROM Employee e WHERE e.manager.id = :managerId AND e.active = true")
-    Page<Employee> findByManagerId(@Param("managerId") UUID managerId, Pageable pageable);
+    /**
+     * Active employees below {@code ancestorId}, at any depth of the reporting chain.
+     */
+    @Query(value = "SELECT e FROM Employee e JOIN ReportingChain rc ON rc.employeeId = e.id " +
+                   "WHERE rc.ancestorUserId = :ancestorId AND e.active = true",
+           countQuery = "SELECT count(e) FROM Employee e JOIN ReportingChain rc ON rc.employeeId = e.id " +
+                        "WHERE rc.ancestorUserId = :ancestorId AND e.active = true")
+    Page<Employee> findByAncestorId(@Param("ancestorId") UUID ancestorId, Pageable pageable);
 
     @Query("SELECT e FROM Employee e WHERE e.active = true")
     Page<Employee> findAllActive(Pageable pageable);
-
-    @Query("SELECT e FROM Employee e WHERE e.active = true AND " +
-           "(LOWER(e.fullName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(e.email) LIKE LOWER(CONCAT('%', :search, '%')))")
-    Page<Employee> searchByNameOrEmail(@Param("search") String search, Pageable pageable);
 }
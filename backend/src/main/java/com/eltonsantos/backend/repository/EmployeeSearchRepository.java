@@ -0,0 +1,55 @@
+package com.eltonsantos.backend.repository;
+
+import com.eltonsantos.backend.dto.response.EmployeeSearchResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Type-ahead search over active employees, backed by the pg_trgm GIN indexes on
+ * full_name and email. Matches substrings of either column or names similar to
+ * the term, ranked by trigram similarity.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeSearchRepository {
+
+    private static final String SELECT = """
+            SELECT e.id, e.full_name, e.email,
+                   GREATEST(similarity(e.full_name, ?), similarity(e.email, ?)) AS score
+            FROM employees e
+            WHERE e.active = true
+              AND (e.full_name ILIKE ? OR e.email ILIKE ? OR e.full_name % ?)
+            """;
+
+    private static final String ORDER = " ORDER BY score DESC, e.full_name, e.id LIMIT ?";
+
+    private static final RowMapper<EmployeeSearchResponse> MAPPER = (rs, i) -> new EmployeeSearchResponse(
+            rs.getObject("id", UUID.class),
+            rs.getString("full_name"),
+            rs.getString("email"),
+            rs.getDouble("score"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<EmployeeSearchResponse> search(String term, int limit) {
+        String pattern = containsPattern(term);
+        return jdbcTemplate.query(SELECT + ORDER, MAPPER, term, term, pattern, pattern, term, limit);
+    }
+
+    public List<EmployeeSearchResponse> searchByAncestorId(UUID ancestorId, String term, int limit) {
+        String pattern = containsPattern(term);
+        String below = " AND EXISTS (SELECT 1 FROM reporting_chain rc WHERE rc.employee_id = e.id AND rc.ancestor_user_id = ?)";
+        return jdbcTemplate.query(SELECT + below + ORDER, MAPPER,
+                term, term, pattern, pattern, term, ancestorId, limit);
+    }
+
+    private static String containsPattern(String term) {
+        String escaped = term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
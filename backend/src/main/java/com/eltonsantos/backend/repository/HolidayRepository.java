@@ -0,0 +1,17 @@
+package com.eltonsantos.backend.repository;
+
+import com.eltonsantos.backend.entity.Holiday;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface HolidayRepository extends JpaRepository<Holiday, UUID> {
+
+    List<Holiday> findByDateBetweenOrderByDate(LocalDate startDate, LocalDate endDate);
+
+    boolean existsByDate(LocalDate date);
+}
@@ -0,0 +1,92 @@
+package com.eltonsantos.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Storage for idempotency keys. Every statement runs on its own (auto-commit), so a
+ * reservation is visible to other nodes as soon as it is made.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record StoredKey(
+            String requestHash,
+            boolean completed,
+            Integer responseStatus,
+            String responseContentType,
+            String responseBody,
+            LocalDateTime expiresAt
+    ) {}
+
+    /**
+     * Reserves the key for a request in progress until {@code leaseUntil}. An expired entry for the
+     * same key is taken over: a completed one past its TTL, or a reservation whose lease ran out
+     * because the node handling it died before completing or releasing it.
+     *
+     * @return true if the key was reserved by this call
+     */
+    public boolean tryReserve(UUID userId, String key, String requestHash, LocalDateTime leaseUntil) {
+        int rows = jdbcTemplate.update("""
+                INSERT INTO idempotency_keys (user_id, idempotency_key, request_hash, status, expires_at)
+                VALUES (?, ?, ?, 'IN_PROGRESS', ?)
+                ON CONFLICT (user_id, idempotency_key) DO UPDATE
+                    SET request_hash = EXCLUDED.request_hash,
+                        status = 'IN_PROGRESS',
+                        response_status = NULL,
+                        response_content_type = NULL,
+                        response_body = NULL,
+                        created_at = CURRENT_TIMESTAMP,
+                        expires_at = EXCLUDED.expires_at
+                    WHERE idempotency_keys.expires_at < CURRENT_TIMESTAMP
+                """, userId, key, requestHash, Timestamp.valueOf(leaseUntil));
+        return rows > 0;
+    }
+
+    public Optional<StoredKey> find(UUID userId, String key) {
+        List<StoredKey> rows = jdbcTemplate.query("""
+                SELECT request_hash, status, response_status, response_content_type, response_body, expires_at
+                FROM idempotency_keys
+                WHERE user_id = ? AND idempotency_key = ?
+                """, (rs, i) -> new StoredKey(
+                        rs.getString("request_hash"),
+                        "COMPLETED".equals(rs.getString("status")),
+                        (Integer) rs.getObject("response_status"),
+                        rs.getString("response_content_type"),
+                        rs.getString("response_body"),
+                        rs.getTimestamp("expires_at").toLocalDateTime()),
+                userId, key);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Stores the response of a reserved key and keeps it until {@code expiresAt}.
+     */
+    public void complete(UUID userId, String key, int status, String contentType, String body,
+                         LocalDateTime expiresAt) {
+        jdbcTemplate.update("""
+                UPDATE idempotency_keys
+                SET status = 'COMPLETED', response_status = ?, response_content_type = ?, response_body = ?,
+                    expires_at = ?
+                WHERE user_id = ? AND idempotency_key = ?
+                """, status, contentType, body, Timestamp.valueOf(expiresAt), userId, key);
+    }
+
+    public void delete(UUID userId, String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE user_id = ? AND idempotency_key = ?", userId, key);
+    }
+
+    public int deleteExpired() {
+        return jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < CURRENT_TIMESTAMP");
+    }
+}
@@ -0,0 +1,68 @@
+package com.eltonsantos.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the employee/manager/user links that back the in-memory org hierarchy: all of them
+ * for a reload, or those around one employee or user when the index cannot answer.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrgHierarchyRepository {
+
+    private static final int FETCH_SIZE = 5_000;
+
+    private static final RowMapper<Link> LINK_MAPPER = (rs, rowNum) -> new Link(
+            rs.getObject("id", UUID.class),
+            rs.getObject("manager_id", UUID.class),
+            rs.getObject("user_id", UUID.class),
+            rs.getBoolean("active"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Link(UUID employeeId, UUID managerId, UUID userId, boolean active) {}
+
+    @FunctionalInterface
+    public interface LinkConsumer {
+        void accept(UUID employeeId, UUID managerId, UUID userId);
+    }
+
+    /**
+     * Streams every employee row to {@code consumer} without materialising the result set
+     * (the driver only honours the fetch size inside a transaction).
+     */
+    @Transactional(readOnly = true)
+    public void forEachEmployee(LinkConsumer consumer) {
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement("SELECT id, manager_id, user_id FROM employees");
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            consumer.accept(
+                    rs.getObject("id", UUID.class),
+                    rs.getObject("manager_id", UUID.class),
+                    rs.getObject("user_id", UUID.class));
+        });
+    }
+
+    /**
+     * The employee plus the employee records of everyone above it in the reporting chain.
+     */
+    public List<Link> findChainLinks(UUID employeeId) {
+        return jdbcTemplate.query("""
+                SELECT id, manager_id, user_id, active FROM employees WHERE id = ?
+                UNION
+                SELECT e.id, e.manager_id, e.user_id, e.active
+                FROM reporting_chain rc
+                JOIN employees e ON e.user_id = rc.ancestor_user_id
+                WHERE rc.employee_id = ?
+                """, LINK_MAPPER, employeeId, employeeId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.eltonsantos.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Calls the partition-management functions defined in the Flyway migrations.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PartitionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates the missing yearly partitions of vacation_requests in [fromYear, toYear].
+     *
+     * @return number of partitions created
+     */
+    public int ensureVacationRequestPartitions(int fromYear, int toYear) {
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT ensure_vacation_requests_partitions(?, ?)", Integer.class, fromYear, toYear);
+        return created != null ? created : 0;
+    }
+
+    /**
+     * Creates the missing monthly partitions of audit_logs for the months in [fromMonth, toMonth].
+     *
+     * @return number of partitions created
+     */
+    public int ensureAuditLogPartitions(LocalDate fromMonth, LocalDate toMonth) {
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT ensure_audit_logs_partitions(?, ?)", Integer.class, fromMonth, toMonth);
+        return created != null ? created : 0;
+    }
+
+    /**
+     * Detaches the monthly audit_logs partitions that end on or before {@code before}, dropping
+     * them unless {@code drop} is false.
+     *
+     * @return names of the partitions removed from audit_logs
+     */
+    public List<String> expireAuditLogPartitions(LocalDate before, boolean drop) {
+        return jdbcTemplate.queryForList(
+                "SELECT expire_audit_logs_partitions(?, ?)", String.class, before, drop);
+    }
+}
@@ -0,0 +1,105 @@
+package com.eltonsantos.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Maintains the {@code reporting_chain} closure table.
+ *
+ * <p>The subtree of an employee is the employee itself (depth 0) plus everyone below the user
+ * linked to it. Changing an employee's manager or user link is a {@link #detach} of that
+ * subtree from the employee's current ancestors, the change itself, then an {@link #attach}
+ * to the new ancestors. Both must run after the employee row has been flushed.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReportingChainRepository {
+
+    private static final String SUBTREE = """
+            SELECT ?::uuid AS employee_id, 0 AS depth
+            UNION ALL
+            SELECT rc.employee_id, rc.depth FROM reporting_chain rc WHERE rc.ancestor_user_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Whether {@code candidateUserId} is {@code userId} itself or reports to it at any depth,
+     * i.e. whether making it the manager of {@code userId}'s employee would create a cycle.
+     */
+    public boolean isSelfOrBelow(UUID userId, UUID candidateUserId) {
+        if (userId.equals(candidateUserId)) {
+            return true;
+        }
+        Boolean below = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (
+                    SELECT 1 FROM reporting_chain rc
+                    JOIN employees e ON e.id = rc.employee_id
+                    WHERE rc.ancestor_user_id = ? AND e.user_id = ?)
+                """, Boolean.class, userId, candidateUserId);
+        return Boolean.TRUE.equals(below);
+    }
+
+    /**
+     * Removes the links between the subtree of {@code employeeId} (as seen through
+     * {@code userId}, which may be null) and the employee's current ancestors.
+     */
+    public int detach(UUID employeeId, UUID userId) {
+        return jdbcTemplate.update("""
+                DELETE FROM reporting_chain rc
+                USING (SELECT ancestor_user_id FROM reporting_chain WHERE employee_id = ?) a,
+                      (%s) s
+                WHERE rc.ancestor_user_id = a.ancestor_user_id AND rc.employee_id = s.employee_id
+                """.formatted(SUBTREE), employeeId, employeeId, userId);
+    }
+
+    /**
+     * Links the subtree of {@code employeeId} (as seen through {@code userId}, which may be null)
+     * to {@code managerId} and every ancestor above it.
+     */
+    public int attach(UUID employeeId, UUID managerId, UUID userId) {
+        if (managerId == null) {
+            return 0;
+        }
+        return jdbcTemplate.update("""
+                INSERT INTO reporting_chain (ancestor_user_id, employee_id, depth)
+                SELECT a.ancestor_user_id, s.employee_id, a.depth + s.depth
+                FROM (SELECT ?::uuid AS ancestor_user_id, 1 AS depth
+                      UNION ALL
+                      SELECT rc.ancestor_user_id, rc.depth + 1
+                      FROM employees m
+                      JOIN reporting_chain rc ON rc.employee_id = m.id
+                      WHERE m.user_id = ?) a
+                CROSS JOIN (%s) s
+                ON CONFLICT (ancestor_user_id, employee_id) DO NOTHING
+                """.formatted(SUBTREE), managerId, managerId, employeeId, userId);
+    }
+
+    /**
+     * Links newly created employees without reports (so without a subtree of their own) to their
+     * manager and every ancestor above it, in one statement.
+     */
+    public int attachNewEmployees(Collection<UUID> employeeIds) {
+        return jdbcTemplate.update("""
+                INSERT INTO reporting_chain (ancestor_user_id, employee_id, depth)
+                SELECT e.manager_id, e.id, 1
+                FROM employees e
+                WHERE e.id = ANY(?) AND e.manager_id IS NOT NULL
+                UNION ALL
+                SELECT rc.ancestor_user_id, e.id, rc.depth + 1
+                FROM employees e
+                JOIN employees m ON m.user_id = e.manager_id
+                JOIN reporting_chain rc ON rc.employee_id = m.id
+                WHERE e.id = ANY(?)
+                ON CONFLICT (ancestor_user_id, employee_id) DO NOTHING
+                """, ps -> {
+            var ids = ps.getConnection().createArrayOf("uuid", employeeIds.toArray());
+            ps.setArray(1, ids);
+            ps.setArray(2, ids);
+        });
+    }
+}
@@ -0,0 +1,107 @@
+package com.eltonsantos.backend.repository;
+
+import com.eltonsantos.backend.enums.Role;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based reads and JDBC batch writes for bulk user provisioning ({@code POST /users/batch}).
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record NewUser(UUID id, String email, String passwordHash, Role role) {}
+
+    public record NewLinkedEmployee(UUID id, String fullName, String email, UUID managerId, UUID userId) {}
+
+    /**
+     * Which of the given emails are already used by a user or an employee.
+     */
+    public Set<String> findTakenEmails(Collection<String> emails) {
+        Set<String> taken = new HashSet<>();
+        jdbcTemplate.query("""
+                SELECT email FROM users WHERE email = ANY(?)
+                UNION
+                SELECT email FROM employees WHERE email = ANY(?)
+                """, ps -> {
+            var array = ps.getConnection().createArrayOf("varchar", emails.toArray());
+            ps.setArray(1, array);
+            ps.setArray(2, array);
+        }, rs -> {
+            taken.add(rs.getString(1));
+        });
+        return taken;
+    }
+
+    /**
+     * Roles of the given users, keyed by id. Unknown ids are absent.
+     */
+    public Map<UUID, Role> findRoles(Collection<UUID> userIds) {
+        Map<UUID, Role> roles = new HashMap<>();
+        jdbcTemplate.query("SELECT id, role FROM users WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", userIds.toArray())),
+                rs -> {
+                    roles.put(rs.getObject("id", UUID.class), Role.valueOf(rs.getString("role")));
+                });
+        return roles;
+    }
+
+    /**
+     * Inserts the users in one batch. Rows whose email was taken in the meantime are skipped.
+     *
+     * @return rows inserted per user, in order (0 when skipped)
+     */
+    public int[] insertUsers(List<NewUser> users) {
+        return jdbcTemplate.batchUpdate("""
+                INSERT INTO users (id, email, password_hash, role)
+                VALUES (?, ?, ?, ?)
+                ON CONFLICT (email) DO NOTHING
+                """, users, users.size(), (ps, user) -> {
+            ps.setObject(1, user.id());
+            ps.setString(2, user.email());
+            ps.setString(3, user.passwordHash());
+            ps.setString(4, user.role().name());
+        })[0];
+    }
+
+    /**
+     * Inserts the employees of the new users in one batch. Rows whose email was taken in the
+     * meantime are skipped.
+     *
+     * @return rows inserted per employee, in order (0 when skipped)
+     */
+    public int[] insertEmployees(List<NewLinkedEmployee> employees) {
+        return jdbcTemplate.batchUpdate("""
+                INSERT INTO employees (id, full_name, email, manager_id, user_id, active)
+                VALUES (?, ?, ?, ?, ?, true)
+                ON CONFLICT (email) DO NOTHING
+                """, employees, employees.size(), (ps, employee) -> {
+            ps.setObject(1, employee.id());
+            ps.setString(2, employee.fullName());
+            ps.setString(3, employee.email());
+            ps.setObject(4, employee.managerId(), Types.OTHER);
+            ps.setObject(5, employee.userId());
+        })[0];
+    }
+
+    /**
+     * Removes users whose employee could not be inserted, so no user is left without one.
+     */
+    public void deleteUsers(Collection<UUID> userIds) {
+        jdbcTemplate.update("DELETE FROM users WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", userIds.toArray())));
+    }
+}
@@ -2,8 +2,11 @@ package com.eltonsantos.backend.repository;
 
 import com.eltonsantos.backend.entity.VacationBalance;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,9 +14,29 @@ import java.util.UUID;
 @Repository
 public interface VacationBalanceRepository extends JpaRepository<VacationBalance, UUID> {
 
+    /**
+     * Columns a {@code VacationBalanceResponse} is derived from.
+     */
+    interface VersionView {
+        Long getVersion();
+        LocalDateTime getEmployeeUpdatedAt();
+    }
+
+    @Query("SELECT b.version AS version, e.updatedAt AS employeeUpdatedAt " +
+           "FROM VacationBalance b JOIN b.employee e WHERE e.id = :employeeId AND b.year = :year")
+    Optional<VersionView> findVersionByEmployeeIdAndYear(@Param("employeeId") UUID employeeId,
+                                                         @Param("year") Integer year);
+
     Optional<VacationBalance> findByEmployeeIdAndYear(UUID employeeId, Integer year);
 
     List<VacationBalance> findByEmployeeId(UUID employeeId);
 
     List<VacationBalance> findByYear(Integer year);
+
+    /**
+     * Balances for {@code year} of every active employee below {@code ancestorId}, at any depth.
+     */
+    @Query("SELECT vb FROM VacationBalance vb JOIN ReportingChain rc ON rc.employeeId = vb.employee.id " +
+           "WHERE rc.ancestorUserId = :ancestorId AND vb.year = :year AND vb.employee.active = true")
+    List<VacationBalance> findByAncestorIdAndYear(@Param("ancestorId") UUID ancestorId, @Param("year") Integer year);
 }
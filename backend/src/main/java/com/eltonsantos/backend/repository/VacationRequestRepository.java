@@ -10,65 +10,204 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface VacationRequestRepository extends JpaRepository<VacationRequest, UUID> {
 
+    /**
+     * Columns a {@code VacationResponse} is derived from, plus the employee id needed for the
+     * read-access check. Lets conditional GETs be answered without loading and mapping the request.
+     */
+    interface VersionView {
+        Long getVersion();
+        LocalDateTime getEmployeeUpdatedAt();
+        LocalDateTime getDecidedByUpdatedAt();
+        UUID getEmployeeId();
+    }
+
+    @Query("SELECT vr.version AS version, e.updatedAt AS employeeUpdatedAt, d.updatedAt AS decidedByUpdatedAt, " +
+           "e.id AS employeeId " +
+           "FROM VacationRequest vr JOIN vr.employee e LEFT JOIN vr.decidedBy d WHERE vr.id = :id")
+    Optional<VersionView> findVersionById(@Param("id") UUID id);
+
     List<VacationRequest> findByEmployeeId(UUID employeeId);
 
     Page<VacationRequest> findByEmployeeId(UUID employeeId, Pageable pageable);
 
-    @Query("SELECT vr FROM VacationRequest vr WHERE vr.employee.manager.id = :managerId")
-    Page<VacationRequest> findByManagerId(@Param("managerId") UUID managerId, Pageable pageable);
+    /**
+     * Requests of every employee below {@code ancestorId}, at any depth of the reporting chain.
+     */
+    @Query(value = "SELECT vr FROM VacationRequest vr " +
+                   "JOIN ReportingChain rc ON rc.employeeId = vr.employee.id " +
+                   "WHERE rc.ancestorUserId = :ancestorId",
+           countQuery = "SELECT count(vr) FROM VacationRequest vr " +
+                        "JOIN ReportingChain rc ON rc.employeeId = vr.employee.id " +
+                        "WHERE rc.ancestorUserId = :ancestorId")
+    Page<VacationRequest> findByAncestorId(@Param("ancestorId") UUID ancestorId, Pageable pageable);
 
     @Query("SELECT vr FROM VacationRequest vr WHERE vr.status = :status")
     Page<VacationRequest> findByStatus(@Param("status") VacationStatus status, Pageable pageable);
 
+    interface PendingView {
+        UUID getId();
+        LocalDateTime getRequestedAt();
+    }
+
+    /**
+     * Pending-approval queue (keyset pagination on requested_at, id).
+     * Backed by the partial indexes on PENDING rows; returns the keys only, the rows are
+     * then loaded with {@link #findAllWithEmployeeByIdIn}.
+     */
+    @Query(value = "SELECT vr.id AS id, vr.requested_at AS requestedAt FROM vacation_requests vr " +
+                   "JOIN employees e ON e.id = vr.employee_id " +
+                   "WHERE e.manager_id = :managerId AND vr.status = 'PENDING' " +
+                   "ORDER BY vr.requested_at, vr.id LIMIT :limit", nativeQuery = true)
+    List<PendingView> findPendingKeysByManagerId(
+            @Param("managerId") UUID managerId,
+            @Param("limit") int limit);
+
+    @Query(value = "SELECT vr.id AS id, vr.requested_at AS requestedAt FROM vacation_requests vr " +
+                   "JOIN employees e ON e.id = vr.employee_id " +
+                   "WHERE e.manager_id = :managerId AND vr.status = 'PENDING' " +
+                   "AND (vr.requested_at, vr.id) > (:afterRequestedAt, :afterId) " +
+                   "ORDER BY vr.requested_at, vr.id LIMIT :limit", nativeQuery = true)
+    List<PendingView> findPendingKeysByManagerIdAfter(
+            @Param("managerId") UUID managerId,
+            @Param("afterRequestedAt") LocalDateTime afterRequestedAt,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit);
+
+    @Query(value = "SELECT vr.id AS id, vr.requested_at AS requestedAt FROM vacation_requests vr " +
+                   "WHERE vr.status = 'PENDING' " +
+                   "ORDER BY vr.requested_at, vr.id LIMIT :limit", nativeQuery = true)
+    List<PendingView> findPendingKeys(@Param("limit") int limit);
+
+    @Query(value = "SELECT vr.id AS id, vr.requested_at AS requestedAt FROM vacation_requests vr " +
+                   "WHERE vr.status = 'PENDING' " +
+                   "AND (vr.requested_at, vr.id) > (:afterRequestedAt, :afterId) " +
+                   "ORDER BY vr.requested_at, vr.id LIMIT :limit", nativeQuery = true)
+    List<PendingView> findPendingKeysAfter(
+            @Param("afterRequestedAt") LocalDateTime afterRequestedAt,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit);
+
+    interface ChangeView {
+        UUID getId();
+        Long getChangeSeq();
+    }
+
+    /**
+     * Change feed (keyset pagination on change_seq, id). Only returns changes made by
+     * transactions older than the current snapshot's xmin, which can no longer be
+     * preceded by a late commit, so a client cursor never skips a row.
+     *
+     * <p>The price is that any write transaction still open, on any table, holds back every
+     * change made after it started until it ends. Read-only transactions have no id and do not
+     * count, but long write transactions (bulk imports, maintenance run by hand) stall the feed
+     * for their whole duration, so jobs commit in batches instead.</p>
+     */
+    @Query(value = "SELECT vr.id AS id, vr.change_seq AS changeSeq FROM vacation_requests vr " +
+                   "WHERE (vr.change_seq, vr.id) > (:afterSeq, :afterId) " +
+                   "AND vr.change_seq < pg_snapshot_xmin(pg_current_snapshot())::text::bigint " +
+                   "ORDER BY vr.change_seq, vr.id LIMIT :limit", nativeQuery = true)
+    List<ChangeView> findChangesAfter(
+            @Param("afterSeq") long afterSeq,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit);
+
+    /**
+     * Whether changes after the cursor exist but are still held back by the xmin horizon of
+     * {@link #findChangesAfter}.
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM vacation_requests vr " +
+                   "WHERE (vr.change_seq, vr.id) > (:afterSeq, :afterId) " +
+                   "AND vr.change_seq >= pg_snapshot_xmin(pg_current_snapshot())::text::bigint)", nativeQuery = true)
+    boolean existsHeldBackChangesAfter(
+            @Param("afterSeq") long afterSeq,
+            @Param("afterId") UUID afterId);
+
+    @Query("SELECT vr FROM VacationRequest vr JOIN FETCH vr.employee LEFT JOIN FETCH vr.decidedBy WHERE vr.id IN :ids")
+    List<VacationRequest> findAllWithEmployeeByIdIn(@Param("ids") Collection<UUID> ids);
+
     /**
      * Find overlapping vacation requests.
      * Overlap condition: newStart <= existingEnd AND newEnd >= existingStart
      * Only considers PENDING and APPROVED statuses.
      */
+    default List<VacationRequest> findOverlapping(LocalDate newStart, LocalDate newEnd, UUID excludeId) {
+        return findOverlappingInWindow(minOverlappingStart(newStart), newStart, newEnd, excludeId);
+    }
+
+    /**
+     * Find overlapping for new requests (no ID to exclude).
+     */
+    default List<VacationRequest> findOverlappingForNew(LocalDate newStart, LocalDate newEnd) {
+        return findOverlappingForNewInWindow(minOverlappingStart(newStart), newStart, newEnd);
+    }
+
+    default List<VacationRequest> findForCalendar(LocalDate startDate, LocalDate endDate) {
+        return findForCalendarInWindow(minOverlappingStart(startDate), startDate, endDate);
+    }
+
+    default List<VacationRequest> findApprovedByEmployeeAndYear(UUID employeeId, int year) {
+        return findApprovedByEmployeeAndStartBetween(employeeId, LocalDate.of(year, 1, 1), LocalDate.of(year + 1, 1, 1));
+    }
+
+    /**
+     * Earliest start date a request overlapping {@code date} can have. Used as a lower bound on
+     * start_date (the partition key) so that only the partitions of the relevant years are scanned.
+     */
+    static LocalDate minOverlappingStart(LocalDate date) {
+        return date.minusDays(VacationRequest.MAX_SPAN_DAYS);
+    }
+
     @Query("SELECT vr FROM VacationRequest vr WHERE " +
            "vr.status IN ('PENDING', 'APPROVED') AND " +
            "vr.id != :excludeId AND " +
+           "vr.startDate >= :minStart AND " +
            ":newStart <= vr.endDate AND :newEnd >= vr.startDate")
-    List<VacationRequest> findOverlapping(
+    List<VacationRequest> findOverlappingInWindow(
+            @Param("minStart") LocalDate minStart,
             @Param("newStart") LocalDate newStart,
             @Param("newEnd") LocalDate newEnd,
             @Param("excludeId") UUID excludeId);
 
-    /**
-     * Find overlapping for new requests (no ID to exclude).
-     */
     @Query("SELECT vr FROM VacationRequest vr WHERE " +
            "vr.status IN ('PENDING', 'APPROVED') AND " +
+           "vr.startDate >= :minStart AND " +
            ":newStart <= vr.endDate AND :newEnd >= vr.startDate")
-    List<VacationRequest> findOverlappingForNew(
+    List<VacationRequest> findOverlappingForNewInWindow(
+            @Param("minStart") LocalDate minStart,
             @Param("newStart") LocalDate newStart,
             @Param("newEnd") LocalDate newEnd);
 
     @Query("SELECT vr FROM VacationRequest vr WHERE " +
            "vr.status = 'APPROVED' AND " +
-           "vr.startDate >= :startDate AND vr.endDate <= :endDate")
+           "vr.startDate >= :startDate AND vr.startDate <= :endDate AND vr.endDate <= :endDate")
     List<VacationRequest> findApprovedInPeriod(
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
     @Query("SELECT vr FROM VacationRequest vr WHERE " +
            "vr.status IN ('PENDING', 'APPROVED') AND " +
+           "vr.startDate >= :minStart AND " +
            "vr.startDate <= :endDate AND vr.endDate >= :startDate")
-    List<VacationRequest> findForCalendar(
+    List<VacationRequest> findForCalendarInWindow(
+            @Param("minStart") LocalDate minStart,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
     @Query("SELECT vr FROM VacationRequest vr WHERE " +
            "vr.employee.id = :employeeId AND " +
            "vr.status = 'APPROVED' AND " +
-           "YEAR(vr.startDate) = :year")
-    List<VacationRequest> findApprovedByEmployeeAndYear(
+           "vr.startDate >= :fromDate AND vr.startDate < :toDate")
+    List<VacationRequest> findApprovedByEmployeeAndStartBetween(
             @Param("employeeId") UUID employeeId,
-            @Param("year") int year);
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
 }
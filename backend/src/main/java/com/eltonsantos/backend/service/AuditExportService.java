@@ -0,0 +1,109 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.enums.ExportFormat;
+import com.eltonsantos.backend.exception.BusinessException;
+import com.eltonsantos.backend.repository.AuditExportRepository;
+import com.eltonsantos.backend.repository.AuditExportRepository.AuditExportRow;
+import com.eltonsantos.backend.util.CsvWriter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Audit log export over a time range, for compliance. Rows are written to the response as they
+ * are read from the database, so memory use does not grow with the length of the range.
+ */
+@Slf4j
+@Service
+public class AuditExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final AuditExportRepository auditExportRepository;
+    private final AuthService authService;
+    private final ObjectMapper objectMapper;
+    private final int maxRangeDays;
+
+    public AuditExportService(AuditExportRepository auditExportRepository,
+                              AuthService authService,
+                              ObjectMapper objectMapper,
+                              @Value("${vacation.audit.export-max-range-days:366}") int maxRangeDays) {
+        this.auditExportRepository = auditExportRepository;
+        this.authService = authService;
+        this.objectMapper = objectMapper;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    /**
+     * Validates the range on the calling thread; the returned body does the actual streaming
+     * once the response is committed.
+     */
+    public StreamingResponseBody export(LocalDateTime from, LocalDateTime to, ExportFormat format) {
+        if (!from.isBefore(to)) {
+            throw new BusinessException("'from' must be before 'to'");
+        }
+        if (Duration.between(from, to).toDays() > maxRangeDays) {
+            throw new BusinessException("The export range cannot exceed " + maxRangeDays + " days");
+        }
+        UUID actorId = authService.getCurrentUserId();
+
+        return output -> {
+            long started = System.nanoTime();
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+            long[] rows = {0};
+            if (format == ExportFormat.CSV) {
+                CsvWriter csv = new CsvWriter(writer);
+                csv.writeRow("id", "created_at", "actor_user_id", "actor_email", "action", "entity_type",
+                        "entity_id", "metadata");
+                auditExportRepository.forEachInRange(from, to, row -> {
+                    csv.writeRow(row.id(), row.createdAt(), row.actorUserId(), row.actorEmail(), row.action(),
+                            row.entityType(), row.entityId(), row.metadataJson());
+                    rows[0]++;
+                });
+            } else {
+                JsonGenerator json = objectMapper.getFactory().createGenerator(writer)
+                        .setRootValueSeparator(null); // one object per line, separated by '\n' below
+                auditExportRepository.forEachInRange(from, to, row -> {
+                    writeJson(json, row);
+                    rows[0]++;
+                });
+                json.flush();
+            }
+            writer.flush();
+            log.info("Exported {} audit entries from {} to {} as {} for user {} in {} ms", rows[0], from, to,
+                    format, actorId, (System.nanoTime() - started) / 1_000_000);
+        };
+    }
+
+    private static void writeJson(JsonGenerator json, AuditExportRow row) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("id", row.id().toString());
+        json.writeStringField("createdAt", row.createdAt().toString());
+        json.writeStringField("actorUserId", row.actorUserId() != null ? row.actorUserId().toString() : null);
+        json.writeStringField("actorEmail", row.actorEmail());
+        json.writeStringField("action", row.action());
+        json.writeStringField("entityType", row.entityType());
+        json.writeStringField("entityId", row.entityId().toString());
+        json.writeFieldName("metadata");
+        if (row.metadataJson() != null) {
+            // Already valid JSON as stored by PostgreSQL
+            json.writeRawValue(row.metadataJson());
+        } else {
+            json.writeNull();
+        }
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+}
@@ -0,0 +1,342 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.repository.AuditLogBatchRepository.NewAuditLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Local append-only journal of audit entries waiting to be written to audit_logs.
+ *
+ * <p>Entries go to memory-mapped segment files of {@code vacation.audit.journal.segment-bytes}.
+ * Each record is an 8-byte header (payload length, CRC32 of the payload) followed by the entry as
+ * JSON; the length is written last, so a zero length marks the end of the written part. Appending
+ * is a copy into the mapping, and the entry survives a crash of the JVM as soon as it returns; the
+ * {@link AuditShipper} forces the pages to disk on every run, which bounds what a power loss can
+ * take.</p>
+ *
+ * <p>The checkpoint file holds the position up to which entries are in the database. On startup
+ * each segment is scanned up to its first invalid record, appends resume in a new segment, and
+ * everything after the checkpoint is shipped again. Segments before the checkpoint are deleted.
+ * Entries the database rejects are set aside in {@code dead-letter.ndjson}.</p>
+ */
+@Slf4j
+@Component
+public class AuditJournal {
+
+    static final int HEADER_BYTES = 8;
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String LOCK_FILE = "lock";
+    private static final String DEAD_LETTER_FILE = "dead-letter.ndjson";
+
+    public record Position(long segment, int offset) {}
+
+    public record Batch(List<NewAuditLog> entries, Position next) {}
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int segmentBytes;
+
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final Object appendLock = new Object();
+    private final Object deadLetterLock = new Object();
+    private Segment active; // guarded by appendLock
+    private boolean closed; // guarded by appendLock
+    private volatile Position checkpoint;
+    private FileChannel lockChannel;
+    private FileLock lock;
+
+    public AuditJournal(ObjectMapper objectMapper,
+                        @Value("${vacation.audit.journal.dir:data/audit-journal}") String directory,
+                        @Value("${vacation.audit.journal.segment-bytes:16777216}") int segmentBytes) {
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory);
+        this.segmentBytes = segmentBytes;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+        lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        lock = lockChannel.tryLock();
+        if (lock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("Audit journal " + directory.toAbsolutePath() + " is used by another process");
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(SEGMENT_SUFFIX)).toList()) {
+                String name = file.getFileName().toString();
+                long index = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                segments.put(index, Segment.open(file, index, segmentBytes));
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.put(0L, Segment.open(segmentPath(0), 0, segmentBytes));
+            active = segments.lastEntry().getValue();
+        } else {
+            // Never append after records that may have been torn by a crash: the bytes past the
+            // last valid record are unknown, so writing resumes in a new segment
+            active = segments.lastEntry().getValue();
+            roll();
+        }
+
+        Position saved = readCheckpoint();
+        long first = segments.firstKey();
+        checkpoint = saved == null || saved.segment() < first ? new Position(first, 0) : saved;
+        deleteBefore(checkpoint.segment());
+        log.info("Audit journal {} opened: {} segment(s), shipping from segment {} offset {}",
+                directory.toAbsolutePath(), segments.size(), checkpoint.segment(), checkpoint.offset());
+    }
+
+    /**
+     * Appends an entry. Throws if the journal is closed or the entry cannot be written.
+     */
+    public void append(NewAuditLog entry) throws IOException {
+        byte[] payload = objectMapper.writeValueAsBytes(entry);
+        if (HEADER_BYTES + payload.length > segmentBytes) {
+            throw new IOException("Audit entry of " + payload.length + " bytes does not fit in a journal segment");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        synchronized (appendLock) {
+            if (closed) {
+                throw new IOException("Audit journal is closed");
+            }
+            if (!active.fits(payload.length)) {
+                roll();
+            }
+            active.write(payload, (int) crc.getValue());
+        }
+    }
+
+    /**
+     * Reads up to {@code maxEntries} entries starting at {@code from}, crossing into later
+     * segments once a segment is complete. Entries that no longer parse are logged and skipped.
+     */
+    public Batch read(Position from, int maxEntries) {
+        List<NewAuditLog> entries = new ArrayList<>();
+        long index = from.segment();
+        int offset = from.offset();
+        while (entries.size() < maxEntries) {
+            Segment segment = segments.get(index);
+            Long next = segments.higherKey(index);
+            if (segment == null) {
+                if (next == null) {
+                    break;
+                }
+                index = next;
+                offset = 0;
+                continue;
+            }
+            // Read after the lookup of the next segment: once a later segment exists, this limit is final
+            int limit = segment.limit;
+            if (offset >= limit) {
+                if (next == null) {
+                    break;
+                }
+                index = next;
+                offset = 0;
+                continue;
+            }
+
+            byte[] payload = segment.payloadAt(offset);
+            offset += HEADER_BYTES + payload.length;
+            try {
+                entries.add(objectMapper.readValue(payload, NewAuditLog.class));
+            } catch (IOException e) {
+                log.error("Skipping unreadable audit journal entry in segment {}: {}", index, e.getMessage());
+            }
+        }
+        return new Batch(entries, new Position(index, offset));
+    }
+
+    public Position checkpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Records that every entry before {@code position} is in the database and deletes the
+     * segments that are entirely before it. The file is replaced atomically but not synced: a
+     * checkpoint lost in a crash only makes entries ship again, and inserts ignore duplicates.
+     */
+    public void commit(Position position) throws IOException {
+        Path tmp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(tmp, position.segment() + " " + position.offset(), StandardCharsets.US_ASCII);
+        Files.move(tmp, directory.resolve(CHECKPOINT_FILE),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        checkpoint = position;
+        deleteBefore(position.segment());
+    }
+
+    /**
+     * Appends an entry the database will not accept to the dead-letter file, one JSON object per
+     * line with the reason, so it can be inspected and replayed by hand once fixed.
+     */
+    public void deadLetter(NewAuditLog entry, String reason) throws IOException {
+        byte[] line = objectMapper.writeValueAsBytes(Map.of(
+                "entry", entry, "reason", String.valueOf(reason), "failedAt", LocalDateTime.now().toString()));
+        synchronized (deadLetterLock) {
+            try (OutputStream out = Files.newOutputStream(directory.resolve(DEAD_LETTER_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                out.write(line);
+                out.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Writes the appended pages of the current segment to disk.
+     */
+    public void force() {
+        Segment current;
+        synchronized (appendLock) {
+            if (closed) {
+                return;
+            }
+            current = active;
+        }
+        current.buffer.force();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (appendLock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Segment segment : segments.values()) {
+                segment.buffer.force();
+                segment.channel.close();
+            }
+            lock.release();
+            lockChannel.close();
+        }
+    }
+
+    private void roll() throws IOException {
+        Segment next = Segment.open(segmentPath(active.index + 1), active.index + 1, segmentBytes);
+        active.buffer.force();
+        segments.put(next.index, next);
+        active = next;
+    }
+
+    private void deleteBefore(long index) throws IOException {
+        for (Long old : segments.headMap(index).keySet()) {
+            Segment segment = segments.remove(old);
+            segment.channel.close();
+            Files.deleteIfExists(segment.path);
+        }
+    }
+
+    private Position readCheckpoint() throws IOException {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        String[] parts = Files.readString(file, StandardCharsets.US_ASCII).trim().split(" ");
+        try {
+            return new Position(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring unreadable audit journal checkpoint, shipping every segment again");
+            return null;
+        }
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve("%020d%s".formatted(index, SEGMENT_SUFFIX));
+    }
+
+    private static final class Segment {
+
+        private final long index;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private volatile int limit;
+
+        private Segment(long index, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.index = index;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.capacity = buffer.capacity();
+        }
+
+        /**
+         * Maps an existing segment at its own size, or creates one of {@code size} bytes, and
+         * finds the end of its valid records.
+         */
+        static Segment open(Path path, long index, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            int capacity = channel.size() > 0 ? (int) channel.size() : size;
+            Segment segment = new Segment(index, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+            segment.limit = segment.scan();
+            return segment;
+        }
+
+        private int scan() {
+            int offset = 0;
+            while (offset + HEADER_BYTES <= capacity) {
+                int length = buffer.getInt(offset);
+                if (length <= 0 || length > capacity - offset - HEADER_BYTES) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                buffer.get(offset + HEADER_BYTES, payload);
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != buffer.getInt(offset + 4)) {
+                    break;
+                }
+                offset += HEADER_BYTES + length;
+            }
+            return offset;
+        }
+
+        boolean fits(int payloadLength) {
+            return limit + HEADER_BYTES + payloadLength <= capacity;
+        }
+
+        void write(byte[] payload, int crc) {
+            int offset = limit;
+            buffer.putInt(offset + 4, crc);
+            buffer.put(offset + HEADER_BYTES, payload);
+            buffer.putInt(offset, payload.length);
+            limit = offset + HEADER_BYTES + payload.length;
+        }
+
+        byte[] payloadAt(int offset) {
+            byte[] payload = new byte[buffer.getInt(offset)];
+            buffer.get(offset + HEADER_BYTES, payload);
+            return payload;
+        }
+    }
+}
@@ -1,55 +1,218 @@
 package com.eltonsantos.backend.service;
 
 import com.eltonsantos.backend.dto.response.AuditLogResponse;
+import com.eltonsantos.backend.dto.response.KeysetPageResponse;
 import com.eltonsantos.backend.dto.response.PageResponse;
 import com.eltonsantos.backend.entity.AuditLog;
 import com.eltonsantos.backend.entity.User;
+import com.eltonsantos.backend.exception.BusinessException;
+import com.eltonsantos.backend.repository.AuditLogBatchRepository;
+import com.eltonsantos.backend.repository.AuditLogBatchRepository.NewAuditLog;
 import com.eltonsantos.backend.repository.AuditLogRepository;
-import lombok.RequiredArgsConstructor;
+import com.eltonsantos.backend.repository.AuditSearchRepository;
+import com.eltonsantos.backend.util.KeysetCursor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuditService {
 
+    private static final int MAX_KEYSET_PAGE_SIZE = 100;
+
     private final AuditLogRepository auditLogRepository;
+    private final AuditSearchRepository auditSearchRepository;
+    private final AuditLogBatchRepository auditLogBatchRepository;
+    private final AuditJournal auditJournal;
+    private final ObjectMapper objectMapper;
+    private final int defaultWindowDays;
+
+    public AuditService(AuditLogRepository auditLogRepository,
+                        AuditSearchRepository auditSearchRepository,
+                        AuditLogBatchRepository auditLogBatchRepository,
+                        AuditJournal auditJournal,
+                        ObjectMapper objectMapper,
+                        @Value("${vacation.audit.default-window-days:90}") int defaultWindowDays) {
+        this.auditLogRepository = auditLogRepository;
+        this.auditSearchRepository = auditSearchRepository;
+        this.auditLogBatchRepository = auditLogBatchRepository;
+        this.auditJournal = auditJournal;
+        this.objectMapper = objectMapper;
+        this.defaultWindowDays = defaultWindowDays;
+    }
 
-    @Async
-    @Transactional
+    /**
+     * Records an audit entry. The entry goes to the local {@link AuditJournal} once the current
+     * transaction commits (right away outside one), so it is not recorded for changes that roll
+     * back, and reaches audit_logs through the {@link AuditShipper}. If the journal cannot take it,
+     * it is inserted directly.
+     */
     public void log(User actor, String action, String entityType, UUID entityId, Map<String, Object> metadata) {
+        NewAuditLog entry;
         try {
-            AuditLog auditLog = AuditLog.builder()
-                    .actor(actor)
-                    .action(action)
-                    .entityType(entityType)
-                    .entityId(entityId)
-                    .metadata(metadata)
-                    .build();
-            auditLogRepository.save(auditLog);
-            log.debug("Audit log created: {} - {} - {}", action, entityType, entityId);
-        } catch (Exception e) {
+            entry = new NewAuditLog(UUID.randomUUID(), actor.getId(), actor.getEmail(), action, entityType, entityId,
+                    metadata == null ? null : objectMapper.writeValueAsString(metadata), LocalDateTime.now());
+        } catch (JsonProcessingException e) {
             log.error("Failed to create audit log: {}", e.getMessage());
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append(entry);
+                }
+            });
+        } else {
+            append(entry);
+        }
+    }
+
+    private void append(NewAuditLog entry) {
+        try {
+            auditJournal.append(entry);
+            log.debug("Audit log created: {} - {} - {}", entry.action(), entry.entityType(), entry.entityId());
+        } catch (IOException e) {
+            log.warn("Audit journal unavailable, inserting entry directly: {}", e.getMessage());
+            try {
+                auditLogBatchRepository.insertAll(List.of(entry));
+            } catch (Exception ex) {
+                log.error("Failed to create audit log: {}", ex.getMessage());
+            }
         }
     }
 
+    /**
+     * Entries created in [from, to). Without {@code from} only the last
+     * {@code vacation.audit.default-window-days} are searched, so only the recent monthly
+     * partitions are read.
+     */
     @Transactional(readOnly = true)
-    public PageResponse<AuditLogResponse> findAll(Pageable pageable) {
-        Page<AuditLog> page = auditLogRepository.findAllByOrderByCreatedAtDesc(pageable);
+    public PageResponse<AuditLogResponse> findAll(LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        LocalDateTime[] range = resolveRange(from, to);
+        Page<AuditLog> page = auditLogRepository.findByCreatedAtRange(range[0], range[1], pageable);
         return PageResponse.from(page, AuditLogResponse::fromEntity);
     }
 
     @Transactional(readOnly = true)
-    public PageResponse<AuditLogResponse> findByEntityType(String entityType, Pageable pageable) {
-        Page<AuditLog> page = auditLogRepository.findByEntityType(entityType, pageable);
+    public PageResponse<AuditLogResponse> findByEntityType(String entityType, LocalDateTime from, LocalDateTime to,
+                                                           Pageable pageable) {
+        LocalDateTime[] range = resolveRange(from, to);
+        Page<AuditLog> page = auditLogRepository.findByEntityTypeAndCreatedAtRange(entityType, range[0], range[1], pageable);
         return PageResponse.from(page, AuditLogResponse::fromEntity);
     }
+
+    @Transactional(readOnly = true)
+    public KeysetPageResponse<AuditLogResponse> findPageByEntityType(String entityType, String cursor, int size) {
+        return keysetPage(cursor, size,
+                limit -> auditLogRepository.findPageByEntityType(entityType, limit),
+                (before, limit) -> auditLogRepository.findPageByEntityTypeBefore(
+                        entityType, before.timestamp(), before.id(), limit));
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPageResponse<AuditLogResponse> findPageByActor(UUID actorId, String cursor, int size) {
+        return keysetPage(cursor, size,
+                limit -> auditLogRepository.findPageByActorId(actorId, limit),
+                (before, limit) -> auditLogRepository.findPageByActorIdBefore(
+                        actorId, before.timestamp(), before.id(), limit));
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPageResponse<AuditLogResponse> findPageByEntity(String entityType, UUID entityId, String cursor, int size) {
+        return keysetPage(cursor, size,
+                limit -> auditLogRepository.findPageByEntity(entityType, entityId, limit),
+                (before, limit) -> auditLogRepository.findPageByEntityBefore(
+                        entityType, entityId, before.timestamp(), before.id(), limit));
+    }
+
+    /**
+     * Entries whose metadata contains the JSON object {@code contains}, has all of {@code keys}
+     * and matches the jsonpath predicate {@code path}, optionally narrowed by action and entity
+     * type. Every filter is optional; the time range defaults like {@link #findAll}.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPageResponse<AuditLogResponse> search(String action, String entityType, String contains,
+                                                       List<String> keys, String path,
+                                                       LocalDateTime from, LocalDateTime to,
+                                                       String cursor, int size) {
+        LocalDateTime[] range = resolveRange(from, to);
+        KeysetCursor before = KeysetCursor.decode(cursor);
+        size = Math.max(1, Math.min(size, MAX_KEYSET_PAGE_SIZE));
+        AuditSearchRepository.Criteria criteria = new AuditSearchRepository.Criteria(
+                blankToNull(action), blankToNull(entityType), normalizeContains(contains),
+                keys != null ? keys.stream().filter(key -> !key.isBlank()).toList() : null,
+                blankToNull(path), range[0], range[1]);
+
+        List<AuditLogResponse> rows;
+        try {
+            rows = auditSearchRepository.search(criteria, before, size + 1);
+        } catch (BadSqlGrammarException e) {
+            // The only user-supplied SQL fragment is the jsonpath
+            throw new BusinessException("Invalid JSON path: " + criteria.jsonPath());
+        }
+        return KeysetPageResponse.from(rows, size, Function.identity(),
+                row -> new KeysetCursor(row.createdAt(), row.id()).encode());
+    }
+
+    private String normalizeContains(String contains) {
+        if (contains == null || contains.isBlank()) {
+            return null;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(contains);
+            if (!node.isObject()) {
+                throw new BusinessException("'contains' must be a JSON object");
+            }
+            return node.toString();
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("'contains' is not valid JSON");
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private KeysetPageResponse<AuditLogResponse> keysetPage(String cursor, int size,
+                                                            Function<Limit, List<AuditLog>> firstPage,
+                                                            BiFunction<KeysetCursor, Limit, List<AuditLog>> nextPage) {
+        KeysetCursor before = KeysetCursor.decode(cursor);
+        size = Math.max(1, Math.min(size, MAX_KEYSET_PAGE_SIZE));
+        Limit limit = Limit.of(size + 1);
+        List<AuditLog> rows = before == null ? firstPage.apply(limit) : nextPage.apply(before, limit);
+        return KeysetPageResponse.from(rows, size, AuditLogResponse::fromEntity,
+                entry -> new KeysetCursor(entry.getCreatedAt(), entry.getId()).encode());
+    }
+
+    private LocalDateTime[] resolveRange(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime now = LocalDateTime.now();
+        // Entries are never written ahead of the clock; the day covers skew between nodes
+        LocalDateTime end = to != null ? to : now.plusDays(1);
+        LocalDateTime start = from != null ? from : now.minusDays(defaultWindowDays);
+        if (!start.isBefore(end)) {
+            throw new BusinessException("'from' must be before 'to'");
+        }
+        return new LocalDateTime[]{start, end};
+    }
 }
@@ -0,0 +1,97 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.repository.AuditLogBatchRepository;
+import com.eltonsantos.backend.repository.AuditLogBatchRepository.NewAuditLog;
+import com.eltonsantos.backend.service.AuditJournal.Batch;
+import com.eltonsantos.backend.service.AuditJournal.Position;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moves audit entries from the {@link AuditJournal} to audit_logs in JDBC batches, advancing the
+ * journal checkpoint after each batch. Runs every {@code vacation.audit.journal.flush-interval-ms}
+ * and once more on shutdown; the first run after a restart ships whatever a crash left behind.
+ *
+ * <p>A batch that fails is retried row by row. Rows the database rejects (constraint, length or
+ * type violations, which would fail the same way on every run) go to the journal's dead-letter
+ * file so they cannot hold back the entries after them. Any other failure, such as the database
+ * being unavailable, stops the run and leaves the batch to the next one; rows already inserted by
+ * then are ignored when shipped again.</p>
+ */
+@Slf4j
+@Service
+public class AuditShipper {
+
+    private final AuditJournal auditJournal;
+    private final AuditLogBatchRepository auditLogBatchRepository;
+    private final int batchSize;
+
+    public AuditShipper(AuditJournal auditJournal,
+                        AuditLogBatchRepository auditLogBatchRepository,
+                        @Value("${vacation.audit.journal.batch-size:500}") int batchSize) {
+        this.auditJournal = auditJournal;
+        this.auditLogBatchRepository = auditLogBatchRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${vacation.audit.journal.flush-interval-ms:200}")
+    public synchronized void ship() {
+        auditJournal.force();
+        Position position = auditJournal.checkpoint();
+        int shipped = 0;
+        try {
+            while (true) {
+                Batch batch = auditJournal.read(position, batchSize);
+                if (batch.next().equals(position)) {
+                    break;
+                }
+                shipped += insert(batch.entries());
+                auditJournal.commit(batch.next());
+                position = batch.next();
+            }
+        } catch (Exception e) {
+            log.warn("Could not ship audit entries, retrying on the next run: {}", e.getMessage());
+        }
+        if (shipped > 0) {
+            log.debug("Shipped {} audit entries", shipped);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ship();
+    }
+
+    private int insert(List<NewAuditLog> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        try {
+            auditLogBatchRepository.insertAll(entries);
+            return entries.size();
+        } catch (DataAccessException e) {
+            log.warn("Audit batch of {} entries failed, retrying row by row: {}", entries.size(), e.getMessage());
+        }
+
+        int inserted = 0;
+        for (NewAuditLog entry : entries) {
+            try {
+                auditLogBatchRepository.insertAll(List.of(entry));
+                inserted++;
+            } catch (DataIntegrityViolationException e) {
+                String reason = e.getMostSpecificCause().getMessage();
+                log.error("Audit entry {} rejected by the database, moved to the dead-letter file: {}", entry.id(), reason);
+                auditJournal.deadLetter(entry, reason);
+            }
+        }
+        return inserted;
+    }
+}
@@ -11,6 +11,8 @@ import com.eltonsantos.backend.entity.Employee;
 import com.eltonsantos.backend.entity.User;
 import com.eltonsantos.backend.entity.VacationBalance;
 import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.event.EmployeeChangedEvent;
+import com.eltonsantos.backend.event.UserChangedEvent;
 import com.eltonsantos.backend.exception.BusinessException;
 import com.eltonsantos.backend.exception.ResourceNotFoundException;
 import com.eltonsantos.backend.repository.EmployeeRepository;
@@ -19,6 +21,7 @@ import com.eltonsantos.backend.repository.VacationBalanceRepository;
 import com.eltonsantos.backend.security.CustomUserDetails;
 import com.eltonsantos.backend.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -40,6 +43,8 @@ public class AuthService {
     private final EmployeeRepository employeeRepository;
     private final VacationBalanceRepository vacationBalanceRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmployeeIdCache employeeIdCache;
 
     public AuthResponse login(LoginRequest request) {
         Authentication authentication = authenticationManager.authenticate(
@@ -82,6 +87,7 @@ public class AuthService {
                 .role(request.role())
                 .build();
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
 
         // Create Employee linked to User
         Employee employee = Employee.builder()
@@ -91,6 +97,7 @@ public class AuthService {
                 .active(true)
                 .build();
         employee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.of(employee));
 
         // Create VacationBalance for current year
         VacationBalance balance = VacationBalance.builder()
@@ -123,14 +130,15 @@ public class AuthService {
         UUID userId = getCurrentUserId();
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-        Employee employee = employeeRepository.findByUserId(userId).orElse(null);
-        return UserResponse.fromEntity(user, employee);
+        // Only the employee id is needed, and it is cached
+        UUID employeeId = employeeIdCache.findEmployeeIdByUserId(userId).orElse(null);
+        return UserResponse.fromEntity(user, employeeId);
     }
 
     @Transactional(readOnly = true)
     public ProfileResponse getProfile() {
         User user = getCurrentUserEntity();
-        Employee employee = employeeRepository.findByUserId(user.getId()).orElse(null);
+        Employee employee = findEmployeeOf(user.getId());
         return ProfileResponse.fromEntities(user, employee);
     }
 
@@ -161,8 +169,7 @@ public class AuthService {
         User user = getCurrentUserEntity();
         
         // Find and update the associated employee
-        Employee employee = employeeRepository.findByUserId(user.getId())
-                .orElse(null);
+        Employee employee = findEmployeeOf(user.getId());
         
         if (employee != null) {
             employee.setFullName(request.getFullName());
@@ -172,6 +179,16 @@ public class AuthService {
         return ProfileResponse.fromEntities(user, employee);
     }
 
+    /**
+     * Resolves the employee id from the cache, so users without an employee (admins) usually
+     * cost no query and the others a primary-key lookup.
+     */
+    private Employee findEmployeeOf(UUID userId) {
+        return employeeIdCache.findEmployeeIdByUserId(userId)
+                .flatMap(employeeRepository::findById)
+                .orElse(null);
+    }
+
     @Transactional
     public void changePassword(ChangePasswordRequest request) {
         User user = getCurrentUserEntity();
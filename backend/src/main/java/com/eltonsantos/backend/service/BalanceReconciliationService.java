@@ -0,0 +1,198 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.dto.response.BalanceReconciliationResponse;
+import com.eltonsantos.backend.entity.User;
+import com.eltonsantos.backend.repository.BalanceReconciliationRepository;
+import com.eltonsantos.backend.repository.BalanceReconciliationRepository.Drift;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recomputes used days of every balance from the employee's approved requests and fixes drift.
+ *
+ * <p>Employees are split into chunks that are reconciled in parallel on a dedicated fork-join
+ * pool. Each chunk needs one aggregate query for the drift and, unless it is a dry run, one
+ * batched update for the corrections. Updates are guarded by the stored value they were
+ * computed from, so a balance written concurrently is left for the next run.</p>
+ */
+@Slf4j
+@Service
+public class BalanceReconciliationService {
+
+    private static final int MAX_REPORTED_DRIFTS = 100;
+
+    private final BalanceReconciliationRepository reconciliationRepository;
+    private final AuditService auditService;
+    private final AuthService authService;
+    private final int chunkSize;
+    private final boolean scheduledApply;
+    private final ForkJoinPool pool;
+
+    private final Timer duration;
+    private final Counter employeesScanned;
+    private final Counter driftFound;
+    private final Counter driftCorrected;
+
+    public BalanceReconciliationService(BalanceReconciliationRepository reconciliationRepository,
+                                        AuditService auditService,
+                                        AuthService authService,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${vacation.reconciliation.chunk-size:200}") int chunkSize,
+                                        @Value("${vacation.reconciliation.parallelism:4}") int parallelism,
+                                        @Value("${vacation.reconciliation.scheduled-apply:false}") boolean scheduledApply) {
+        this.reconciliationRepository = reconciliationRepository;
+        this.auditService = auditService;
+        this.authService = authService;
+        this.chunkSize = chunkSize;
+        this.scheduledApply = scheduledApply;
+        this.pool = new ForkJoinPool(parallelism);
+        this.duration = Timer.builder("vacation.reconciliation.duration")
+                .description("Time taken by a balance reconciliation run")
+                .register(meterRegistry);
+        this.employeesScanned = Counter.builder("vacation.reconciliation.employees")
+                .description("Employees checked by balance reconciliation")
+                .register(meterRegistry);
+        this.driftFound = Counter.builder("vacation.reconciliation.drift")
+                .description("Balances whose used days did not match approved requests")
+                .tag("outcome", "found")
+                .register(meterRegistry);
+        this.driftCorrected = Counter.builder("vacation.reconciliation.drift")
+                .description("Balances whose used days did not match approved requests")
+                .tag("outcome", "corrected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reconciles the balances on behalf of the current (admin) user. Applied corrections are audited.
+     */
+    public BalanceReconciliationResponse reconcile(boolean dryRun) {
+        User currentUser = dryRun ? null : authService.getCurrentUserEntity();
+        Result result = run(dryRun);
+        if (!dryRun) {
+            for (Drift drift : result.corrected) {
+                auditService.log(currentUser, "RECONCILE_BALANCE", "VacationBalance", drift.balanceId(),
+                        Map.of("year", drift.year(),
+                                "storedUsedDays", drift.storedUsedDays(),
+                                "expectedUsedDays", drift.expectedUsedDays()));
+            }
+        }
+        return result.report;
+    }
+
+    @Scheduled(cron = "${vacation.reconciliation.cron:0 30 3 * * SUN}")
+    public void scheduledReconcile() {
+        try {
+            run(!scheduledApply);
+        } catch (RuntimeException e) {
+            log.error("Scheduled balance reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    private Result run(boolean dryRun) {
+        long start = System.nanoTime();
+        List<UUID> employeeIds = reconciliationRepository.findAllEmployeeIds();
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int i = 0; i < employeeIds.size(); i += chunkSize) {
+            chunks.add(employeeIds.subList(i, Math.min(i + chunkSize, employeeIds.size())));
+        }
+
+        ChunkResult total = pool.invoke(new ReconcileTask(chunks, 0, chunks.size(), dryRun));
+
+        long elapsedNanos = System.nanoTime() - start;
+        duration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        employeesScanned.increment(employeeIds.size());
+        driftFound.increment(total.drifts.size());
+        driftCorrected.increment(total.corrected.size());
+
+        long durationMs = elapsedNanos / 1_000_000;
+        log.info("Balance reconciliation{}: {} employees in {} ms, {} drifted, {} corrected",
+                dryRun ? " (dry run)" : "", employeeIds.size(), durationMs, total.drifts.size(), total.corrected.size());
+
+        List<BalanceReconciliationResponse.Drift> reported = total.drifts.stream()
+                .limit(MAX_REPORTED_DRIFTS)
+                .map(d -> new BalanceReconciliationResponse.Drift(
+                        d.employeeId(), d.year(), d.storedUsedDays(), d.expectedUsedDays()))
+                .toList();
+        BalanceReconciliationResponse report = new BalanceReconciliationResponse(
+                dryRun, employeeIds.size(), total.drifts.size(), total.corrected.size(), durationMs, reported);
+        return new Result(report, total.corrected);
+    }
+
+    private ChunkResult reconcileChunk(List<UUID> employeeIds, boolean dryRun) {
+        List<Drift> drifts = reconciliationRepository.findDrift(employeeIds);
+        if (dryRun || drifts.isEmpty()) {
+            return new ChunkResult(drifts, List.of());
+        }
+        List<Drift> corrected = reconciliationRepository.applyCorrections(drifts);
+        if (corrected.size() < drifts.size()) {
+            log.info("{} balance(s) changed during reconciliation and were left for the next run",
+                    drifts.size() - corrected.size());
+        }
+        return new ChunkResult(drifts, corrected);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private record ChunkResult(List<Drift> drifts, List<Drift> corrected) {
+
+        ChunkResult merge(ChunkResult other) {
+            List<Drift> mergedDrifts = new ArrayList<>(drifts);
+            mergedDrifts.addAll(other.drifts);
+            List<Drift> mergedCorrected = new ArrayList<>(corrected);
+            mergedCorrected.addAll(other.corrected);
+            return new ChunkResult(mergedDrifts, mergedCorrected);
+        }
+    }
+
+    private record Result(BalanceReconciliationResponse report, List<Drift> corrected) {}
+
+    /**
+     * Splits the chunk range in halves until a single chunk is left.
+     */
+    private class ReconcileTask extends RecursiveTask<ChunkResult> {
+
+        private final List<List<UUID>> chunks;
+        private final int from;
+        private final int to;
+        private final boolean dryRun;
+
+        ReconcileTask(List<List<UUID>> chunks, int from, int to, boolean dryRun) {
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.dryRun = dryRun;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            if (to - from == 0) {
+                return new ChunkResult(List.of(), List.of());
+            }
+            if (to - from == 1) {
+                return reconcileChunk(chunks.get(from), dryRun);
+            }
+            int middle = (from + to) >>> 1;
+            ReconcileTask left = new ReconcileTask(chunks, from, middle, dryRun);
+            left.fork();
+            ChunkResult right = new ReconcileTask(chunks, middle, to, dryRun).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.dto.response.BalanceRolloverStatusResponse;
+import com.eltonsantos.backend.dto.response.BalanceRolloverStatusResponse.State;
+import com.eltonsantos.backend.exception.BusinessException;
+import com.eltonsantos.backend.repository.BalanceRolloverRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Creates the vacation balances of a year for every active employee ahead of time, so the
+ * first requests of the year do not each pay for creating one.
+ *
+ * <p>Employees are processed in primary-key chunks, one INSERT ... SELECT per chunk. Existing
+ * balances are skipped, so the job can be re-run (or run on several nodes) safely. Remaining
+ * days of the previous year are carried over up to {@code vacation.balance.max-carry-over-days}.</p>
+ *
+ * <p>Balances created in December carry over what was left on that day, and vacations taken or
+ * cancelled later still change it. So the carry-over is provisional: a run for a year whose
+ * previous year has closed (the January run, or a manual re-run after a late correction)
+ * recomputes it from the final remaining days.</p>
+ */
+@Slf4j
+@Service
+public class BalanceRolloverService {
+
+    private final BalanceRolloverRepository balanceRolloverRepository;
+    private final int entitledDays;
+    private final int maxCarryOverDays;
+    private final int chunkSize;
+
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("balance-rollover-"));
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicReference<BalanceRolloverStatusResponse> status =
+            new AtomicReference<>(BalanceRolloverStatusResponse.idle());
+
+    public BalanceRolloverService(BalanceRolloverRepository balanceRolloverRepository,
+                                  @Value("${vacation.balance.entitled-days:22}") int entitledDays,
+                                  @Value("${vacation.balance.max-carry-over-days:0}") int maxCarryOverDays,
+                                  @Value("${vacation.rollover.chunk-size:500}") int chunkSize) {
+        this.balanceRolloverRepository = balanceRolloverRepository;
+        this.entitledDays = entitledDays;
+        this.maxCarryOverDays = maxCarryOverDays;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Creates a single balance with the same rules as the bulk job. Used when a balance is
+     * needed before the rollover has run.
+     *
+     * @return true if the balance was created, false if it already existed or the employee does not exist
+     */
+    public boolean createBalance(UUID employeeId, int year) {
+        return balanceRolloverRepository.createBalances(List.of(employeeId), year, entitledDays, maxCarryOverDays) > 0;
+    }
+
+    /**
+     * Bulk variant of {@link #createBalance}, used for employees created in bulk.
+     *
+     * @return number of balances created
+     */
+    public int createBalances(Collection<UUID> employeeIds, int year) {
+        return balanceRolloverRepository.createBalances(employeeIds, year, entitledDays, maxCarryOverDays);
+    }
+
+    @Scheduled(cron = "${vacation.rollover.cron:0 0 2 1 12 *}")
+    public void scheduledRollover() {
+        int year = Year.now().getValue() + 1;
+        if (!running.get()) {
+            rollover(year);
+        }
+    }
+
+    /**
+     * Settles the carry-over of the current year once the previous one has closed, and creates
+     * the balances of employees added since the December run.
+     */
+    @Scheduled(cron = "${vacation.rollover.settle-cron:0 0 2 1 1 *}")
+    public void scheduledSettlement() {
+        int year = Year.now().getValue();
+        if (!running.get()) {
+            rollover(year);
+        }
+    }
+
+    /**
+     * Starts the rollover for {@code year} in the background.
+     */
+    public BalanceRolloverStatusResponse start(int year) {
+        if (running.get()) {
+            throw new BusinessException("A balance rollover is already running");
+        }
+        executor.execute(() -> rollover(year));
+        return status.get();
+    }
+
+    public BalanceRolloverStatusResponse getStatus() {
+        return status.get();
+    }
+
+    void rollover(int year) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Balance rollover for {} skipped: another run is in progress", year);
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long total = 0;
+        long processed = 0;
+        long created = 0;
+        long adjusted = 0;
+        // Only once the previous year is over is its remaining balance final
+        boolean settle = year <= Year.now().getValue();
+        try {
+            total = balanceRolloverRepository.countActiveEmployees();
+            status.set(new BalanceRolloverStatusResponse(State.RUNNING, year, total, 0, 0, 0, startedAt, null, null));
+            log.info("Balance rollover for {} started ({} active employees, carry-over up to {} days)",
+                    year, total, maxCarryOverDays);
+
+            UUID after = null;
+            List<UUID> chunk;
+            while (!(chunk = balanceRolloverRepository.findActiveEmployeeIdsAfter(after, chunkSize)).isEmpty()) {
+                created += balanceRolloverRepository.createBalances(chunk, year, entitledDays, maxCarryOverDays);
+                if (settle) {
+                    adjusted += balanceRolloverRepository.settleCarryOver(chunk, year, maxCarryOverDays);
+                }
+                processed += chunk.size();
+                after = chunk.get(chunk.size() - 1);
+                status.set(new BalanceRolloverStatusResponse(
+                        State.RUNNING, year, total, processed, created, adjusted, startedAt, null, null));
+            }
+
+            status.set(new BalanceRolloverStatusResponse(
+                    State.COMPLETED, year, total, processed, created, adjusted, startedAt, LocalDateTime.now(), null));
+            log.info("Balance rollover for {} completed: {} employees processed, {} balances created, {} carry-overs adjusted",
+                    year, processed, created, adjusted);
+        } catch (RuntimeException e) {
+            status.set(new BalanceRolloverStatusResponse(
+                    State.FAILED, year, total, processed, created, adjusted, startedAt, LocalDateTime.now(), e.getMessage()));
+            log.error("Balance rollover for {} failed after {} employees: {}", year, processed, e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
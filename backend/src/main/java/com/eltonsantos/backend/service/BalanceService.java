@@ -2,13 +2,14 @@ package com.eltonsantos.backend.service;
 
 import com.eltonsantos.backend.dto.response.PageResponse;
 import com.eltonsantos.backend.dto.response.VacationBalanceResponse;
-import com.eltonsantos.backend.entity.Employee;
 import com.eltonsantos.backend.entity.VacationBalance;
 import com.eltonsantos.backend.enums.Role;
 import com.eltonsantos.backend.exception.ResourceNotFoundException;
+import com.eltonsantos.backend.exception.UnauthorizedException;
 import com.eltonsantos.backend.repository.EmployeeRepository;
 import com.eltonsantos.backend.repository.VacationBalanceRepository;
 import com.eltonsantos.backend.security.CustomUserDetails;
+import com.eltonsantos.backend.util.ETags;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +27,9 @@ public class BalanceService {
     private final VacationBalanceRepository vacationBalanceRepository;
     private final EmployeeRepository employeeRepository;
     private final AuthService authService;
+    private final BalanceRolloverService balanceRolloverService;
+    private final EmployeeIdCache employeeIdCache;
+    private final OrgHierarchy orgHierarchy;
 
     @Transactional(readOnly = true)
     public PageResponse<VacationBalanceResponse> findByYear(Integer year, Pageable pageable) {
@@ -39,15 +43,11 @@ public class BalanceService {
         if (currentUser.getRole() == Role.ADMIN) {
             balances = vacationBalanceRepository.findByYear(year);
         } else if (currentUser.getRole() == Role.MANAGER) {
-            List<Employee> teamEmployees = employeeRepository.findByManagerId(currentUser.getId());
-            List<UUID> employeeIds = teamEmployees.stream().map(Employee::getId).toList();
-            balances = vacationBalanceRepository.findByYear(year).stream()
-                    .filter(b -> employeeIds.contains(b.getEmployee().getId()))
-                    .toList();
+            balances = vacationBalanceRepository.findByAncestorIdAndYear(currentUser.getId(), year);
         } else {
-            Employee employee = employeeRepository.findByUserId(currentUser.getId())
+            UUID employeeId = employeeIdCache.findEmployeeIdByUserId(currentUser.getId())
                     .orElseThrow(() -> new ResourceNotFoundException("Employee not found for current user"));
-            balances = vacationBalanceRepository.findByEmployeeIdAndYear(employee.getId(), year)
+            balances = vacationBalanceRepository.findByEmployeeIdAndYear(employeeId, year)
                     .map(List::of)
                     .orElse(List.of());
         }
@@ -62,11 +62,30 @@ public class BalanceService {
         );
     }
 
+    /**
+     * Strong ETag for {@link #findByEmployeeAndYear}, read from the version columns only. Runs
+     * the same access check, so it never answers for a balance the caller may not read.
+     */
+    @Transactional(readOnly = true)
+    public String findETagByEmployeeAndYear(UUID employeeId, Integer year) {
+        if (year == null) {
+            year = Year.now().getValue();
+        }
+        validateReadAccess(employeeId);
+
+        VacationBalanceRepository.VersionView version = vacationBalanceRepository
+                .findVersionByEmployeeIdAndYear(employeeId, year)
+                .orElseThrow(() -> new ResourceNotFoundException("Balance not found for employee and year"));
+
+        return ETags.of(version.getVersion(), version.getEmployeeUpdatedAt());
+    }
+
     @Transactional(readOnly = true)
     public VacationBalanceResponse findByEmployeeAndYear(UUID employeeId, Integer year) {
         if (year == null) {
             year = Year.now().getValue();
         }
+        validateReadAccess(employeeId);
 
         VacationBalance balance = vacationBalanceRepository.findByEmployeeIdAndYear(employeeId, year)
                 .orElseThrow(() -> new ResourceNotFoundException("Balance not found for employee and year"));
@@ -74,21 +93,17 @@ public class BalanceService {
         return VacationBalanceResponse.fromEntity(balance);
     }
 
+    /**
+     * Balances are normally created ahead of time by {@link BalanceRolloverService}; this creates
+     * a missing one on the spot with the same rules, without loading the employee.
+     */
     @Transactional
     public VacationBalance getOrCreateBalance(UUID employeeId, Integer year) {
         return vacationBalanceRepository.findByEmployeeIdAndYear(employeeId, year)
                 .orElseGet(() -> {
-                    Employee employee = employeeRepository.findById(employeeId)
+                    balanceRolloverService.createBalance(employeeId, year);
+                    return vacationBalanceRepository.findByEmployeeIdAndYear(employeeId, year)
                             .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", employeeId));
-                    
-                    VacationBalance newBalance = VacationBalance.builder()
-                            .employee(employee)
-                            .year(year)
-                            .entitledDays(22)
-                            .usedDays(0)
-                            .remainingDays(22)
-                            .build();
-                    return vacationBalanceRepository.save(newBalance);
                 });
     }
 
@@ -105,4 +120,23 @@ public class BalanceService {
         balance.restoreDays(days);
         vacationBalanceRepository.save(balance);
     }
+
+    private void validateReadAccess(UUID employeeId) {
+        CustomUserDetails currentUser = authService.getCurrentUserDetails();
+
+        if (currentUser.getRole() == Role.ADMIN) {
+            return;
+        }
+
+        if (currentUser.getRole() == Role.MANAGER && orgHierarchy.isInReportingChainOf(currentUser.getId(), employeeId)) {
+            return;
+        }
+
+        if (currentUser.getRole() == Role.COLLABORATOR
+                && employeeIdCache.findEmployeeIdByUserId(currentUser.getId()).filter(employeeId::equals).isPresent()) {
+            return;
+        }
+
+        throw new UnauthorizedException("You do not have permission to view this balance");
+    }
 }
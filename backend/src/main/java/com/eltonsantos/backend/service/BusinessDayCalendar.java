@@ -0,0 +1,132 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.entity.Holiday;
+import com.eltonsantos.backend.event.HolidayChangedEvent;
+import com.eltonsantos.backend.repository.HolidayRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts business days (Monday to Friday, minus public holidays) between two dates.
+ *
+ * <p>Each year is precomputed once into a prefix-sum array where {@code prefix[d]} is the
+ * number of business days from January 1st up to and including day-of-year {@code d}.
+ * Counting any range inside a year is then two array lookups.</p>
+ *
+ * <p>Year arrays are immutable and replaced copy-on-write: a holiday change only patches
+ * the affected year from the changed day onwards, without reloading from the database.
+ * Cached years are also reloaded periodically to pick up changes made on other nodes; a reload
+ * is dropped if the year was patched while it ran, and that year is reloaded on the next run.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BusinessDayCalendar {
+
+    private final HolidayRepository holidayRepository;
+
+    private final Map<Integer, int[]> prefixByYear = new ConcurrentHashMap<>();
+
+    /**
+     * Number of business days in the inclusive range [startDate, endDate].
+     */
+    public int countBusinessDays(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            return 0;
+        }
+
+        if (startDate.getYear() == endDate.getYear()) {
+            int[] prefix = yearPrefix(startDate.getYear());
+            return prefix[endDate.getDayOfYear()] - prefix[startDate.getDayOfYear() - 1];
+        }
+
+        int[] first = yearPrefix(startDate.getYear());
+        int count = first[first.length - 1] - first[startDate.getDayOfYear() - 1];
+        for (int year = startDate.getYear() + 1; year < endDate.getYear(); year++) {
+            int[] prefix = yearPrefix(year);
+            count += prefix[prefix.length - 1];
+        }
+        return count + yearPrefix(endDate.getYear())[endDate.getDayOfYear()];
+    }
+
+    public boolean isBusinessDay(LocalDate date) {
+        int[] prefix = yearPrefix(date.getYear());
+        return prefix[date.getDayOfYear()] != prefix[date.getDayOfYear() - 1];
+    }
+
+    @TransactionalEventListener
+    public void onHolidayChanged(HolidayChangedEvent event) {
+        LocalDate date = event.date();
+        prefixByYear.computeIfPresent(date.getYear(), (year, prefix) -> patch(prefix, date, !event.added()));
+        log.debug("Business-day calendar patched for {} (holiday {})", date, event.added() ? "added" : "removed");
+    }
+
+    @Scheduled(fixedDelayString = "${vacation.calendar.refresh-interval-ms:3600000}",
+            initialDelayString = "${vacation.calendar.refresh-interval-ms:3600000}")
+    public void refreshCachedYears() {
+        for (Integer year : List.copyOf(prefixByYear.keySet())) {
+            int[] read = prefixByYear.get(year);
+            int[] rebuilt = buildYear(year);
+            // Patched while the holidays were being read: the rebuild may predate that change
+            prefixByYear.computeIfPresent(year, (y, current) -> current == read ? rebuilt : current);
+        }
+    }
+
+    private int[] yearPrefix(int year) {
+        return prefixByYear.computeIfAbsent(year, this::buildYear);
+    }
+
+    private int[] buildYear(int year) {
+        int length = Year.of(year).length();
+        boolean[] holiday = new boolean[length + 1];
+        List<Holiday> holidays = holidayRepository.findByDateBetweenOrderByDate(
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+        for (Holiday h : holidays) {
+            holiday[h.getDate().getDayOfYear()] = true;
+        }
+
+        int[] prefix = new int[length + 1];
+        LocalDate day = LocalDate.of(year, 1, 1);
+        for (int d = 1; d <= length; d++, day = day.plusDays(1)) {
+            prefix[d] = prefix[d - 1] + (isWeekday(day) && !holiday[d] ? 1 : 0);
+        }
+        log.debug("Business-day calendar built for {} ({} holidays, {} business days)",
+                year, holidays.size(), prefix[length]);
+        return prefix;
+    }
+
+    /**
+     * Returns a copy of {@code prefix} with {@code date} switched to working / non-working.
+     */
+    private static int[] patch(int[] prefix, LocalDate date, boolean working) {
+        int d = date.getDayOfYear();
+        boolean wasWorking = prefix[d] != prefix[d - 1];
+        boolean isWorking = working && isWeekday(date);
+        if (wasWorking == isWorking) {
+            return prefix;
+        }
+
+        int[] patched = Arrays.copyOf(prefix, prefix.length);
+        int delta = isWorking ? 1 : -1;
+        for (int i = d; i < patched.length; i++) {
+            patched[i] += delta;
+        }
+        return patched;
+    }
+
+    private static boolean isWeekday(LocalDate date) {
+        DayOfWeek dow = date.getDayOfWeek();
+        return dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY;
+    }
+}
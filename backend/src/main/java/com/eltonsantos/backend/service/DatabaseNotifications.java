@@ -0,0 +1,139 @@
+package com.eltonsantos.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY on one dedicated connection, shared by every in-memory view that must
+ * follow writes made on other nodes.
+ *
+ * <p>Subscribers register a channel before the application is ready. Notifications are handed to
+ * them on the listener thread, in commit order. Notifications sent while the connection is down
+ * are lost, so after every (re)connect each subscriber's {@link Listener#onConnected()} runs and
+ * must resynchronise from the database.</p>
+ */
+@Slf4j
+@Component
+public class DatabaseNotifications {
+
+    public interface Listener {
+
+        void onNotification(String payload);
+
+        /**
+         * Called once listening has started, the first time and after every reconnect.
+         */
+        void onConnected();
+    }
+
+    private final DataSource dataSource;
+    private final int pollMs;
+    private final long retryMs;
+
+    private final Map<String, List<Listener>> listeners = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread thread;
+
+    public DatabaseNotifications(DataSource dataSource,
+                                 @Value("${vacation.notifications.poll-ms:1000}") int pollMs,
+                                 @Value("${vacation.notifications.retry-ms:5000}") long retryMs) {
+        this.dataSource = dataSource;
+        this.pollMs = pollMs;
+        this.retryMs = retryMs;
+    }
+
+    public void subscribe(String channel, Listener listener) {
+        listeners.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running || listeners.isEmpty()) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::listen, "db-notifications");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            thread.join(pollMs + 1_000L);
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    for (String channel : listeners.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                log.info("Listening for database notifications on {}", listeners.keySet());
+                listeners.values().forEach(list -> list.forEach(DatabaseNotifications::connected));
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getName(), notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Database notification connection lost, reconnecting in {} ms: {}", retryMs, e.getMessage());
+                    sleep();
+                }
+            }
+        }
+    }
+
+    void dispatch(String channel, String payload) {
+        for (Listener listener : listeners.getOrDefault(channel, List.of())) {
+            try {
+                listener.onNotification(payload);
+            } catch (RuntimeException e) {
+                log.error("Failed to handle {} notification: {}", channel, e.getMessage());
+            }
+        }
+    }
+
+    private static void connected(Listener listener) {
+        try {
+            listener.onConnected();
+        } catch (RuntimeException e) {
+            log.error("Failed to resynchronise after connecting: {}", e.getMessage());
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(retryMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.dto.response.EmployeeResponse;
+import com.eltonsantos.backend.enums.ExportFormat;
+import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.exception.UnauthorizedException;
+import com.eltonsantos.backend.repository.EmployeeExportRepository;
+import com.eltonsantos.backend.security.CustomUserDetails;
+import com.eltonsantos.backend.util.CsvWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Employee directory export. Admins get every active employee, managers everyone below them.
+ * Rows are written to the response as they are read from the database, so memory use does not
+ * grow with the number of employees.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmployeeExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final EmployeeExportRepository employeeExportRepository;
+    private final AuthService authService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Checks access and resolves the scope on the calling thread; the returned body does the
+     * actual streaming once the response is committed.
+     */
+    public StreamingResponseBody export(ExportFormat format) {
+        CustomUserDetails currentUser = authService.getCurrentUserDetails();
+        UUID ancestorId = switch (currentUser.getRole()) {
+            case ADMIN -> null;
+            case MANAGER -> currentUser.getId();
+            case COLLABORATOR -> throw new UnauthorizedException("Collaborators cannot export employees");
+        };
+
+        return output -> {
+            long started = System.nanoTime();
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+            long[] rows = {0};
+            if (format == ExportFormat.CSV) {
+                CsvWriter csv = new CsvWriter(writer);
+                csv.writeRow("id", "full_name", "email", "manager_id", "manager_email", "user_id",
+                        "active", "created_at", "updated_at");
+                employeeExportRepository.forEachActive(ancestorId, employee -> {
+                    csv.writeRow(employee.id(), employee.fullName(), employee.email(), employee.managerId(),
+                            employee.managerEmail(), employee.userId(), employee.active(),
+                            employee.createdAt(), employee.updatedAt());
+                    rows[0]++;
+                });
+            } else {
+                ObjectWriter json = objectMapper.writerFor(EmployeeResponse.class);
+                employeeExportRepository.forEachActive(ancestorId, employee -> {
+                    writer.write(json.writeValueAsString(employee));
+                    writer.write('\n');
+                    rows[0]++;
+                });
+            }
+            writer.flush();
+            log.info("Exported {} employees as {} for user {} in {} ms", rows[0], format,
+                    currentUser.getId(), (System.nanoTime() - started) / 1_000_000);
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.event.EmployeeChangedEvent;
+import com.eltonsantos.backend.event.EmployeeLinkNotification;
+import com.eltonsantos.backend.event.UserDeletedEvent;
+import com.eltonsantos.backend.repository.EmployeeRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded cache of the employee linked to each user (empty for users without one, such as most
+ * admins), read on almost every request to scope it to the caller's own employee.
+ *
+ * <p>Misses load the id from the database. Entries are dropped after commit by the employee and
+ * user write paths on this node, and by the {@code employee_links} notifications for writes made
+ * on any node; {@code vacation.employee-id-cache.ttl} bounds what a missed notification can
+ * leave behind.</p>
+ */
+@Slf4j
+@Component
+public class EmployeeIdCache {
+
+    private final EmployeeRepository employeeRepository;
+    private final DatabaseNotifications databaseNotifications;
+    private final ObjectMapper objectMapper;
+    private final Cache<UUID, Optional<UUID>> employeeIds;
+
+    public EmployeeIdCache(EmployeeRepository employeeRepository,
+                           DatabaseNotifications databaseNotifications,
+                           ObjectMapper objectMapper,
+                           @Value("${vacation.employee-id-cache.size:10000}") long size,
+                           @Value("${vacation.employee-id-cache.ttl:10m}") Duration ttl) {
+        this.employeeRepository = employeeRepository;
+        this.databaseNotifications = databaseNotifications;
+        this.objectMapper = objectMapper;
+        this.employeeIds = Caffeine.newBuilder()
+                .maximumSize(size)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<UUID> findEmployeeIdByUserId(UUID userId) {
+        return employeeIds.get(userId, employeeRepository::findIdByUserId);
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.userId() != null) {
+            employeeIds.invalidate(event.userId());
+        }
+        if (event.previousUserId() != null) {
+            employeeIds.invalidate(event.previousUserId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        employeeIds.invalidate(event.userId());
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        databaseNotifications.subscribe(EmployeeLinkNotification.CHANNEL, new DatabaseNotifications.Listener() {
+            @Override
+            public void onNotification(String payload) {
+                try {
+                    EmployeeLinkNotification notification = objectMapper.readValue(payload, EmployeeLinkNotification.class);
+                    if (notification.userId() != null) {
+                        employeeIds.invalidate(notification.userId());
+                    }
+                    if (notification.previousUserId() != null) {
+                        employeeIds.invalidate(notification.previousUserId());
+                    }
+                } catch (JsonProcessingException e) {
+                    log.error("Ignoring malformed employee link notification: {}", e.getMessage());
+                }
+            }
+
+            @Override
+            public void onConnected() {
+                // Notifications may have been missed while not listening
+                employeeIds.invalidateAll();
+            }
+        });
+    }
+}
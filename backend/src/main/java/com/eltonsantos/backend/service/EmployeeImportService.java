@@ -0,0 +1,251 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.dto.request.EmployeeRequest;
+import com.eltonsantos.backend.dto.response.EmployeeImportResponse;
+import com.eltonsantos.backend.dto.response.EmployeeImportResponse.RowError;
+import com.eltonsantos.backend.event.EmployeeChangedEvent;
+import com.eltonsantos.backend.exception.BusinessException;
+import com.eltonsantos.backend.repository.EmployeeImportRepository;
+import com.eltonsantos.backend.repository.EmployeeImportRepository.AuditEntry;
+import com.eltonsantos.backend.repository.EmployeeImportRepository.NewEmployee;
+import com.eltonsantos.backend.repository.ReportingChainRepository;
+import com.eltonsantos.backend.security.CustomUserDetails;
+import com.eltonsantos.backend.util.CsvReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk creation of employees from a CSV file with the columns {@code full_name}, {@code email}
+ * and optionally {@code manager_email} (header required, any order).
+ *
+ * <p>The file is parsed as a stream. Rows are validated with the same rules as
+ * {@code POST /employees}, against existing emails and managers fetched once, and valid rows
+ * are written in JDBC batches: employees, then their balances, reporting-chain links and
+ * audit entries. Invalid rows are skipped and reported with their line number.</p>
+ *
+ * <p>Each batch commits on its own, so a large file never holds one long transaction (which
+ * would also stall the vacation change feed). If a batch fails the import stops; the batches
+ * before it stay, and uploading the file again skips their rows as existing emails.</p>
+ */
+@Slf4j
+@Service
+public class EmployeeImportService {
+
+    private static final String FULL_NAME = "full_name";
+    private static final String EMAIL = "email";
+    private static final String MANAGER_EMAIL = "manager_email";
+
+    private record ValidRow(long line, NewEmployee employee) {}
+
+    private final EmployeeImportRepository employeeImportRepository;
+    private final BalanceRolloverService balanceRolloverService;
+    private final ReportingChainRepository reportingChainRepository;
+    private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public EmployeeImportService(EmployeeImportRepository employeeImportRepository,
+                                 BalanceRolloverService balanceRolloverService,
+                                 ReportingChainRepository reportingChainRepository,
+                                 AuthService authService,
+                                 ApplicationEventPublisher eventPublisher,
+                                 TransactionTemplate transactionTemplate,
+                                 Validator validator,
+                                 ObjectMapper objectMapper,
+                                 @Value("${vacation.import.batch-size:500}") int batchSize,
+                                 @Value("${vacation.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.employeeImportRepository = employeeImportRepository;
+        this.balanceRolloverService = balanceRolloverService;
+        this.reportingChainRepository = reportingChainRepository;
+        this.authService = authService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public EmployeeImportResponse importCsv(InputStream input) {
+        CustomUserDetails actor = authService.getCurrentUserDetails();
+        CsvReader csv = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Report report = new Report();
+
+        try {
+            List<String> header = csv.next();
+            if (header == null) {
+                throw new BusinessException("The CSV file is empty");
+            }
+            int fullNameColumn = columnIndex(header, FULL_NAME, true);
+            int emailColumn = columnIndex(header, EMAIL, true);
+            int managerColumn = columnIndex(header, MANAGER_EMAIL, false);
+
+            Set<String> emails = employeeImportRepository.findAllEmails();
+            Map<String, UUID> managers = employeeImportRepository.findManagerIdsByEmail();
+            int year = Year.now().getValue();
+            List<ValidRow> batch = new ArrayList<>(batchSize);
+
+            List<String> fields;
+            while ((fields = csv.next()) != null) {
+                report.totalRows++;
+                long line = csv.getRecordLine();
+                if (fields.size() != header.size()) {
+                    report.fail(line, null, "Expected " + header.size() + " columns but found " + fields.size());
+                    continue;
+                }
+
+                String fullName = fields.get(fullNameColumn).trim();
+                String email = fields.get(emailColumn).trim();
+                String managerEmail = managerColumn >= 0 ? fields.get(managerColumn).trim() : "";
+
+                UUID managerId = null;
+                if (!managerEmail.isEmpty()) {
+                    managerId = managers.get(managerEmail);
+                    if (managerId == null) {
+                        report.fail(line, email, "Manager not found: " + managerEmail);
+                        continue;
+                    }
+                }
+
+                String violation = validate(new EmployeeRequest(fullName, email, managerId, null));
+                if (violation != null) {
+                    report.fail(line, email, violation);
+                    continue;
+                }
+                if (!emails.add(email)) {
+                    report.fail(line, email, "Employee with this email already exists");
+                    continue;
+                }
+
+                batch.add(new ValidRow(line, new NewEmployee(UUID.randomUUID(), fullName, email, managerId)));
+                if (batch.size() == batchSize) {
+                    flush(batch, year, actor, report);
+                }
+            }
+            flush(batch, year, actor, report);
+        } catch (IOException e) {
+            throw new BusinessException("Could not read the CSV file: " + e.getMessage());
+        }
+
+        log.info("Employee import by {}: {} rows, {} imported, {} failed",
+                actor.getId(), report.totalRows, report.imported, report.failed);
+        report.errors.sort(Comparator.comparingLong(RowError::line));
+        return new EmployeeImportResponse(report.totalRows, report.imported, report.failed, report.errors);
+    }
+
+    private void flush(List<ValidRow> batch, int year, CustomUserDetails actor, Report report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<NewEmployee> employees = batch.stream().map(ValidRow::employee).toList();
+        int[] inserted = transactionTemplate.execute(status -> write(employees, year, actor));
+        for (int i = 0; i < batch.size(); i++) {
+            if (inserted[i] > 0) {
+                report.imported++;
+            } else {
+                // Taken by a concurrent write after the emails were fetched
+                report.fail(batch.get(i).line(), employees.get(i).email(), "Employee with this email already exists");
+            }
+        }
+        batch.clear();
+    }
+
+    /**
+     * Writes one batch in the current transaction.
+     *
+     * @return per employee, whether it was inserted (0 if its email was taken meanwhile)
+     */
+    private int[] write(List<NewEmployee> employees, int year, CustomUserDetails actor) {
+        int[] inserted = employeeImportRepository.insertEmployees(employees);
+        List<NewEmployee> created = new ArrayList<>(employees.size());
+        for (int i = 0; i < employees.size(); i++) {
+            if (inserted[i] > 0) {
+                created.add(employees.get(i));
+            }
+        }
+        if (created.isEmpty()) {
+            return inserted;
+        }
+
+        List<UUID> ids = created.stream().map(NewEmployee::id).toList();
+        balanceRolloverService.createBalances(ids, year);
+        reportingChainRepository.attachNewEmployees(ids);
+        employeeImportRepository.insertAuditLogs(actor.getId(), actor.getEmail(), "CREATE_EMPLOYEE", "Employee",
+                created.stream().map(this::auditEntry).toList());
+        created.forEach(employee -> eventPublisher.publishEvent(
+                new EmployeeChangedEvent(employee.id(), employee.managerId(), null, null, true)));
+        return inserted;
+    }
+
+    private String validate(EmployeeRequest request) {
+        Set<ConstraintViolation<EmployeeRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .reduce((a, b) -> a + "; " + b)
+                .orElseThrow();
+    }
+
+    private AuditEntry auditEntry(NewEmployee employee) {
+        try {
+            return new AuditEntry(employee.id(), objectMapper.writeValueAsString(Map.of(
+                    "fullName", employee.fullName(), "email", employee.email(), "source", "csv-import")));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int columnIndex(List<String> header, String column, boolean required) {
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).trim().toLowerCase(Locale.ROOT).equals(column)) {
+                return i;
+            }
+        }
+        if (required) {
+            throw new BusinessException("Missing required CSV column: " + column);
+        }
+        return -1;
+    }
+
+    private final class Report {
+        private int totalRows;
+        private int imported;
+        private int failed;
+        private final List<RowError> errors = new ArrayList<>();
+
+        void fail(long line, String email, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new RowError(line, email, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.repository.AdvisoryLockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Serialises vacation writes for the same employee across all backend replicas.
+ * Writes for different employees never wait on each other (barring a hash collision).
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeLockService {
+
+    /** First key of the two-int advisory lock space, reserved for per-employee locks ("VACE"). */
+    static final int EMPLOYEE_LOCK_NAMESPACE = 0x56414345;
+
+    private final AdvisoryLockRepository advisoryLockRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockEmployee(UUID employeeId, String operation) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            advisoryLockRepository.lockForTransaction(EMPLOYEE_LOCK_NAMESPACE, employeeId.hashCode());
+        } finally {
+            sample.stop(Timer.builder("vacation.employee_lock.wait")
+                    .description("Time spent waiting for the per-employee advisory lock")
+                    .tag("operation", operation)
+                    .register(meterRegistry));
+        }
+    }
+}
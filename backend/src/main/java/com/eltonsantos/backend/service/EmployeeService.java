@@ -2,37 +2,53 @@ package com.eltonsantos.backend.service;
 
 import com.eltonsantos.backend.dto.request.EmployeeRequest;
 import com.eltonsantos.backend.dto.response.EmployeeResponse;
+import com.eltonsantos.backend.dto.response.EmployeeSearchResponse;
 import com.eltonsantos.backend.dto.response.PageResponse;
 import com.eltonsantos.backend.entity.Employee;
 import com.eltonsantos.backend.entity.User;
 import com.eltonsantos.backend.entity.VacationBalance;
 import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.event.EmployeeChangedEvent;
 import com.eltonsantos.backend.exception.BusinessException;
 import com.eltonsantos.backend.exception.ResourceNotFoundException;
 import com.eltonsantos.backend.exception.UnauthorizedException;
 import com.eltonsantos.backend.repository.EmployeeRepository;
+import com.eltonsantos.backend.repository.EmployeeSearchRepository;
+import com.eltonsantos.backend.repository.ReportingChainRepository;
 import com.eltonsantos.backend.repository.UserRepository;
 import com.eltonsantos.backend.repository.VacationBalanceRepository;
 import com.eltonsantos.backend.security.CustomUserDetails;
+import com.eltonsantos.backend.util.ETags;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Year;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class EmployeeService {
 
+    private static final int MAX_SEARCH_RESULTS = 50;
+    private static final int MIN_SEARCH_TERM_LENGTH = 3;
+
     private final EmployeeRepository employeeRepository;
     private final UserRepository userRepository;
     private final VacationBalanceRepository vacationBalanceRepository;
     private final AuditService auditService;
     private final AuthService authService;
+    private final EmployeeSearchRepository employeeSearchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrgHierarchy orgHierarchy;
+    private final EmployeeIdCache employeeIdCache;
+    private final ReportingChainRepository reportingChainRepository;
 
     @Transactional(readOnly = true)
     public PageResponse<EmployeeResponse> findAll(Pageable pageable) {
@@ -42,7 +58,7 @@ public class EmployeeService {
         if (currentUser.getRole() == Role.ADMIN) {
             page = employeeRepository.findAllActive(pageable);
         } else if (currentUser.getRole() == Role.MANAGER) {
-            page = employeeRepository.findByManagerId(currentUser.getId(), pageable);
+            page = employeeRepository.findByAncestorId(currentUser.getId(), pageable);
         } else {
             throw new UnauthorizedException("Collaborators cannot list all employees");
         }
@@ -50,10 +66,47 @@ public class EmployeeService {
         return PageResponse.from(page, EmployeeResponse::fromEntity);
     }
 
+    /**
+     * Type-ahead search by name or email, most relevant first. Managers only search their team.
+     * Terms need {@value #MIN_SEARCH_TERM_LENGTH} characters: shorter ones have no trigram to
+     * narrow the index scan and would rank most of the table.
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeSearchResponse> search(String term, int limit) {
+        if (term == null || term.isBlank()) {
+            throw new BusinessException("Search term is required");
+        }
+        String normalized = term.trim();
+        if (normalized.length() < MIN_SEARCH_TERM_LENGTH) {
+            throw new BusinessException("Search term must have at least " + MIN_SEARCH_TERM_LENGTH + " characters");
+        }
+        limit = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+
+        CustomUserDetails currentUser = authService.getCurrentUserDetails();
+        if (currentUser.getRole() == Role.ADMIN) {
+            return employeeSearchRepository.search(normalized, limit);
+        } else if (currentUser.getRole() == Role.MANAGER) {
+            return employeeSearchRepository.searchByAncestorId(currentUser.getId(), normalized, limit);
+        }
+        throw new UnauthorizedException("Collaborators cannot search employees");
+    }
+
+    /**
+     * Strong ETag for {@link #findById}, read from the version columns only, after the same
+     * access check.
+     */
+    @Transactional(readOnly = true)
+    public String findETagById(UUID id) {
+        validateReadAccess(id);
+        EmployeeRepository.VersionView version = employeeRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
+        return ETags.of(version.getUpdatedAt(), version.getManagerUpdatedAt());
+    }
+
     @Transactional(readOnly = true)
     public EmployeeResponse findById(UUID id) {
         Employee employee = getEmployeeById(id);
-        validateReadAccess(employee);
+        validateReadAccess(employee.getId());
         return EmployeeResponse.fromEntity(employee);
     }
 
@@ -84,7 +137,10 @@ public class EmployeeService {
             employee.setUser(user);
         }
 
-        employee = employeeRepository.save(employee);
+        validateReportingChain(employee);
+        employee = employeeRepository.saveAndFlush(employee);
+        reportingChainRepository.attach(employee.getId(), idOf(employee.getManager()), idOf(employee.getUser()));
+        eventPublisher.publishEvent(EmployeeChangedEvent.of(employee));
 
         // Create initial vacation balance for current year
         createInitialBalance(employee);
@@ -104,6 +160,9 @@ public class EmployeeService {
             throw new BusinessException("Employee with this email already exists");
         }
 
+        UUID previousManagerId = idOf(employee.getManager());
+        UUID previousUserId = idOf(employee.getUser());
+
         employee.setFullName(request.fullName());
         employee.setEmail(request.email());
 
@@ -121,7 +180,18 @@ public class EmployeeService {
             employee.setUser(user);
         }
 
-        employee = employeeRepository.save(employee);
+        UUID managerId = idOf(employee.getManager());
+        UUID userId = idOf(employee.getUser());
+        boolean chainChanged = !Objects.equals(previousManagerId, managerId) || !Objects.equals(previousUserId, userId);
+        if (chainChanged) {
+            validateReportingChain(employee);
+            reportingChainRepository.detach(employee.getId(), previousUserId);
+        }
+        employee = employeeRepository.saveAndFlush(employee);
+        if (chainChanged) {
+            reportingChainRepository.attach(employee.getId(), managerId, userId);
+        }
+        eventPublisher.publishEvent(EmployeeChangedEvent.of(employee, previousUserId));
 
         User currentUser = authService.getCurrentUserEntity();
         auditService.log(currentUser, "UPDATE_EMPLOYEE", "Employee", employee.getId(),
@@ -135,6 +205,7 @@ public class EmployeeService {
         Employee employee = getEmployeeById(id);
         employee.setActive(false);
         employeeRepository.save(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.of(employee));
 
         User currentUser = authService.getCurrentUserEntity();
         auditService.log(currentUser, "DELETE_EMPLOYEE", "Employee", employee.getId(),
@@ -146,7 +217,7 @@ public class EmployeeService {
                 .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
     }
 
-    private void validateReadAccess(Employee employee) {
+    private void validateReadAccess(UUID employeeId) {
         CustomUserDetails currentUser = authService.getCurrentUserDetails();
 
         if (currentUser.getRole() == Role.ADMIN) {
@@ -154,19 +225,34 @@ public class EmployeeService {
         }
 
         if (currentUser.getRole() == Role.MANAGER) {
-            if (employee.getManager() == null || !employee.getManager().getId().equals(currentUser.getId())) {
+            if (!orgHierarchy.isInReportingChainOf(currentUser.getId(), employeeId)) {
                 throw new UnauthorizedException("You can only view employees in your team");
             }
             return;
         }
 
         if (currentUser.getRole() == Role.COLLABORATOR) {
-            if (employee.getUser() == null || !employee.getUser().getId().equals(currentUser.getId())) {
+            if (!orgHierarchy.isUserOf(currentUser.getId(), employeeId)) {
                 throw new UnauthorizedException("You can only view your own profile");
             }
         }
     }
 
+    /**
+     * Rejects a manager that is the employee's own user or reports to it, which would make the
+     * reporting chain a cycle.
+     */
+    private void validateReportingChain(Employee employee) {
+        if (employee.getManager() != null && employee.getUser() != null
+                && reportingChainRepository.isSelfOrBelow(employee.getUser().getId(), employee.getManager().getId())) {
+            throw new BusinessException("An employee cannot report to themselves or to someone in their own reporting chain");
+        }
+    }
+
+    private static UUID idOf(User user) {
+        return user != null ? user.getId() : null;
+    }
+
     private void createInitialBalance(Employee employee) {
         VacationBalance balance = VacationBalance.builder()
                 .employee(employee)
@@ -180,7 +266,8 @@ public class EmployeeService {
 
     @Transactional(readOnly = true)
     public Employee getEmployeeByUserId(UUID userId) {
-        return employeeRepository.findByUserId(userId)
+        return employeeIdCache.findEmployeeIdByUserId(userId)
+                .flatMap(employeeRepository::findById)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found for user"));
     }
 }
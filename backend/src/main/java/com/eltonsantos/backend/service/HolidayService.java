@@ -0,0 +1,74 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.dto.request.HolidayRequest;
+import com.eltonsantos.backend.dto.response.HolidayResponse;
+import com.eltonsantos.backend.entity.Holiday;
+import com.eltonsantos.backend.entity.User;
+import com.eltonsantos.backend.event.HolidayChangedEvent;
+import com.eltonsantos.backend.exception.BusinessException;
+import com.eltonsantos.backend.exception.ResourceNotFoundException;
+import com.eltonsantos.backend.repository.HolidayRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class HolidayService {
+
+    private final HolidayRepository holidayRepository;
+    private final AuditService auditService;
+    private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<HolidayResponse> findByYear(Integer year) {
+        if (year == null) {
+            year = Year.now().getValue();
+        }
+        return holidayRepository.findByDateBetweenOrderByDate(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))
+                .stream()
+                .map(HolidayResponse::fromEntity)
+                .toList();
+    }
+
+    @Transactional
+    public HolidayResponse create(HolidayRequest request) {
+        if (holidayRepository.existsByDate(request.date())) {
+            throw new BusinessException("A holiday already exists on this date");
+        }
+
+        Holiday holiday = holidayRepository.save(Holiday.builder()
+                .date(request.date())
+                .name(request.name())
+                .build());
+
+        eventPublisher.publishEvent(new HolidayChangedEvent(holiday.getDate(), true));
+
+        User currentUser = authService.getCurrentUserEntity();
+        auditService.log(currentUser, "CREATE_HOLIDAY", "Holiday", holiday.getId(),
+                Map.of("date", holiday.getDate().toString(), "name", holiday.getName()));
+
+        return HolidayResponse.fromEntity(holiday);
+    }
+
+    @Transactional
+    public void delete(UUID id) {
+        Holiday holiday = holidayRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Holiday", "id", id));
+        holidayRepository.delete(holiday);
+
+        eventPublisher.publishEvent(new HolidayChangedEvent(holiday.getDate(), false));
+
+        User currentUser = authService.getCurrentUserEntity();
+        auditService.log(currentUser, "DELETE_HOLIDAY", "Holiday", holiday.getId(),
+                Map.of("date", holiday.getDate().toString(), "name", holiday.getName()));
+    }
+}
@@ -0,0 +1,148 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.repository.IdempotencyKeyRepository;
+import com.eltonsantos.backend.repository.IdempotencyKeyRepository.StoredKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Tracks {@code Idempotency-Key} headers per user.
+ *
+ * <p>A key is first reserved in the {@code idempotency_keys} table, the request is executed,
+ * and the response is stored against the key. Repeating the same request with the same key
+ * returns the stored response. Completed responses are also kept in an in-memory cache so
+ * most replays do not hit the database.</p>
+ *
+ * <p>A reservation only holds for {@code vacation.idempotency.lease}: if the node running the
+ * request dies before completing or releasing it, the key can be used again once the lease runs
+ * out. The response is kept for {@code vacation.idempotency.ttl} from the time it is stored, in
+ * the table and in the cache alike.</p>
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public enum Outcome {
+        /** The key was reserved; the request must be executed and then completed or released. */
+        EXECUTE,
+        /** The key was already completed with the same payload; replay the stored response. */
+        REPLAY,
+        /** The key is held by a request that has not finished yet. */
+        IN_PROGRESS,
+        /** The key was already used with a different payload. */
+        MISMATCH
+    }
+
+    public record StoredResponse(String requestHash, int status, String contentType, String body,
+                                 LocalDateTime expiresAt) {}
+
+    public record Decision(Outcome outcome, StoredResponse response) {}
+
+    private record CacheKey(UUID userId, String key) {}
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Cache<CacheKey, StoredResponse> completed;
+
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+                              @Value("${vacation.idempotency.ttl:24h}") Duration ttl,
+                              @Value("${vacation.idempotency.lease:5m}") Duration lease,
+                              @Value("${vacation.idempotency.cache-size:10000}") long cacheSize) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new UntilRowExpires())
+                .build();
+    }
+
+    public Decision begin(UUID userId, String key, String requestHash) {
+        StoredResponse cached = completed.getIfPresent(new CacheKey(userId, key));
+        if (cached != null) {
+            return replayOrMismatch(cached, requestHash);
+        }
+
+        if (idempotencyKeyRepository.tryReserve(userId, key, requestHash, LocalDateTime.now().plus(lease))) {
+            return new Decision(Outcome.EXECUTE, null);
+        }
+
+        Optional<StoredKey> stored = idempotencyKeyRepository.find(userId, key);
+        if (stored.isEmpty()) {
+            // Released or purged between the two statements; let the caller try again
+            return new Decision(Outcome.IN_PROGRESS, null);
+        }
+
+        StoredKey row = stored.get();
+        if (!row.completed()) {
+            return new Decision(row.requestHash().equals(requestHash) ? Outcome.IN_PROGRESS : Outcome.MISMATCH, null);
+        }
+
+        StoredResponse response = new StoredResponse(
+                row.requestHash(), row.responseStatus(), row.responseContentType(), row.responseBody(),
+                row.expiresAt());
+        completed.put(new CacheKey(userId, key), response);
+        return replayOrMismatch(response, requestHash);
+    }
+
+    public void complete(UUID userId, String key, String requestHash, int status, String contentType, String body) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        idempotencyKeyRepository.complete(userId, key, status, contentType, body, expiresAt);
+        completed.put(new CacheKey(userId, key), new StoredResponse(requestHash, status, contentType, body, expiresAt));
+    }
+
+    /**
+     * Frees a reserved key so the client can retry, used when the request failed with a server error.
+     */
+    public void release(UUID userId, String key) {
+        idempotencyKeyRepository.delete(userId, key);
+    }
+
+    @Scheduled(fixedDelayString = "${vacation.idempotency.cleanup-interval-ms:3600000}",
+            initialDelayString = "${vacation.idempotency.cleanup-interval-ms:3600000}")
+    public void purgeExpired() {
+        int removed = idempotencyKeyRepository.deleteExpired();
+        if (removed > 0) {
+            log.info("Removed {} expired idempotency keys", removed);
+        }
+    }
+
+    private static Decision replayOrMismatch(StoredResponse response, String requestHash) {
+        return response.requestHash().equals(requestHash)
+                ? new Decision(Outcome.REPLAY, response)
+                : new Decision(Outcome.MISMATCH, null);
+    }
+
+    /**
+     * Expires a cached response together with its row, so a replay never outlives it.
+     */
+    private static final class UntilRowExpires implements Expiry<CacheKey, StoredResponse> {
+
+        @Override
+        public long expireAfterCreate(CacheKey key, StoredResponse response, long currentTime) {
+            Duration remaining = Duration.between(LocalDateTime.now(), response.expiresAt());
+            return remaining.isNegative() ? 0 : remaining.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(CacheKey key, StoredResponse response, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, response, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(CacheKey key, StoredResponse response, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.dto.response.UserResponse;
+import com.eltonsantos.backend.entity.User;
+import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.event.UserChangedEvent;
+import com.eltonsantos.backend.event.UserDeletedEvent;
+import com.eltonsantos.backend.repository.UserRepository;
+import com.eltonsantos.backend.util.ETags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory list of the users with the MANAGER role, for the manager dropdowns of the employee
+ * and user forms.
+ *
+ * <p>The directory is loaded on first use and dropped after commit whenever a user is created,
+ * changed or deleted on this node; it also expires after {@code vacation.manager-directory.ttl-ms}
+ * to pick up changes made on other nodes. A load that overlaps an invalidation is not kept.</p>
+ */
+@Slf4j
+@Component
+public class ManagerDirectory {
+
+    public record Entry(List<UserResponse> users, String etag) {}
+
+    private record Snapshot(Entry managers, long generation, long loadedAt) {}
+
+    private final UserRepository userRepository;
+    private final long ttlMs;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public ManagerDirectory(UserRepository userRepository,
+                            @Value("${vacation.manager-directory.ttl-ms:300000}") long ttlMs) {
+        this.userRepository = userRepository;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Managers ordered by email, with an ETag that changes whenever the list does.
+     */
+    public Entry find() {
+        Snapshot current = snapshot;
+        if (current == null || current.generation() != generation.get()
+                || System.currentTimeMillis() - current.loadedAt() > ttlMs) {
+            current = load();
+        }
+        return current.managers();
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot load() {
+        long loadGeneration = generation.get();
+        Entry managers = entry(userRepository.findByRole(Role.MANAGER));
+        Snapshot loaded = new Snapshot(managers, loadGeneration, System.currentTimeMillis());
+        // Only publish it if no user changed while it was being read
+        if (generation.get() == loadGeneration) {
+            snapshot = loaded;
+        }
+        log.debug("Manager directory loaded: {} managers", managers.users().size());
+        return loaded;
+    }
+
+    private static Entry entry(List<User> users) {
+        List<UserResponse> responses = users.stream()
+                .map(UserResponse::fromEntity)
+                .sorted(Comparator.comparing(UserResponse::email))
+                .toList();
+        // Size, latest update and identities: any create, update or delete changes at least one
+        LocalDateTime lastUpdate = responses.stream()
+                .map(UserResponse::updatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        long identities = 0;
+        for (UserResponse response : responses) {
+            identities = 31 * identities + response.id().hashCode();
+        }
+        return new Entry(responses, ETags.of(responses.size(), lastUpdate, identities));
+    }
+}
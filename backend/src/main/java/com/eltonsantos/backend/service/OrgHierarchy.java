@@ -0,0 +1,374 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.event.EmployeeChangedEvent;
+import com.eltonsantos.backend.event.EmployeeLinkNotification;
+import com.eltonsantos.backend.event.UserDeletedEvent;
+import com.eltonsantos.backend.repository.OrgHierarchyRepository;
+import com.eltonsantos.backend.repository.OrgHierarchyRepository.Link;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory index of "who manages whom" and "which employee belongs to which user", so access
+ * checks never need a database round trip.
+ *
+ * <p>Employee and user UUIDs are interned to dense int ids; links are kept in int arrays
+ * (employee to manager, employee to user, user to employee) plus a sorted int array of
+ * reports per manager.</p>
+ *
+ * <p>The index is loaded once the {@code employee_links} database notifications are being
+ * listened to (and again after every reconnect), patched after commit by this node's write paths
+ * and by those notifications for writes made anywhere, and fully reloaded periodically as a
+ * safety net. Events that arrive while a reload is running are replayed on the new index before
+ * it is swapped in. A negative answer is confirmed against the database, so a change the index
+ * has not seen yet never denies access; a stale positive lasts until its notification arrives.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrgHierarchy {
+
+    private static final int MAX_CHAIN_DEPTH = 64;
+
+    private final OrgHierarchyRepository orgHierarchyRepository;
+    private final DatabaseNotifications databaseNotifications;
+    private final ObjectMapper objectMapper;
+
+    private final Object reloadMonitor = new Object();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guarded by lock
+    private Index index;
+    private List<Object> eventsDuringReload;
+
+    public boolean isManagerOf(UUID managerUserId, UUID employeeId) {
+        return confirm(idx -> {
+            int employee = idx.employeeId(employeeId);
+            int manager = idx.userId(managerUserId);
+            return employee != Index.NONE && manager != Index.NONE && idx.managerOf[employee] == manager;
+        }, () -> orgHierarchyRepository.findChainLinks(employeeId));
+    }
+
+    public boolean isUserOf(UUID userId, UUID employeeId) {
+        return confirm(idx -> {
+            int employee = idx.employeeId(employeeId);
+            int user = idx.userId(userId);
+            return employee != Index.NONE && user != Index.NONE && idx.userOf[employee] == user;
+        }, () -> orgHierarchyRepository.findChainLinks(employeeId));
+    }
+
+    /**
+     * Whether {@code managerUserId} is the employee's manager or above it in the reporting chain.
+     */
+    public boolean isInReportingChainOf(UUID managerUserId, UUID employeeId) {
+        return confirm(idx -> idx.isInReportingChainOf(managerUserId, employeeId),
+                () -> orgHierarchyRepository.findChainLinks(employeeId));
+    }
+
+    /**
+     * Same as {@link #isInReportingChainOf} but answered from the index alone, for checks run so
+     * often (once per event and subscriber) that a database read on every "no" is not affordable.
+     */
+    public boolean isInReportingChainOfIndexed(UUID managerUserId, UUID employeeId) {
+        return read(idx -> idx.isInReportingChainOf(managerUserId, employeeId));
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        databaseNotifications.subscribe(EmployeeLinkNotification.CHANNEL, new DatabaseNotifications.Listener() {
+            @Override
+            public void onNotification(String payload) {
+                try {
+                    onChange(objectMapper.readValue(payload, EmployeeLinkNotification.class).toEvent());
+                } catch (JsonProcessingException e) {
+                    log.error("Ignoring malformed employee link notification: {}", e.getMessage());
+                }
+            }
+
+            @Override
+            public void onConnected() {
+                // Also the initial load; changes may have been missed while not listening
+                reload();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${vacation.org-hierarchy.refresh-interval-ms:600000}",
+            initialDelayString = "${vacation.org-hierarchy.refresh-interval-ms:600000}")
+    public void reload() {
+        synchronized (reloadMonitor) {
+            doReload();
+        }
+    }
+
+    private void doReload() {
+        lock.writeLock().lock();
+        try {
+            eventsDuringReload = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index fresh = new Index();
+        try {
+            orgHierarchyRepository.forEachEmployee(fresh::put);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                eventsDuringReload = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            eventsDuringReload.forEach(event -> apply(fresh, event));
+            eventsDuringReload = null;
+            index = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Org hierarchy loaded: {} employees, {} users", fresh.employees.size(), fresh.userCount);
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        onChange(event);
+    }
+
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        onChange(event);
+    }
+
+    private void onChange(Object event) {
+        lock.writeLock().lock();
+        try {
+            if (index != null) {
+                apply(index, event);
+            }
+            if (eventsDuringReload != null) {
+                eventsDuringReload.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(Index idx, Object event) {
+        if (event instanceof EmployeeChangedEvent e) {
+            idx.put(e.employeeId(), e.managerId(), e.userId());
+        } else if (event instanceof UserDeletedEvent e) {
+            idx.removeUser(e.userId());
+        }
+    }
+
+    /**
+     * Answers from the index, but double-checks a "no" against the database: the index may not
+     * have seen a change yet (the notification from another node is in flight, or was missed).
+     * The rows read are put in the index before asking it again.
+     */
+    private boolean confirm(Function<Index, Boolean> query, Supplier<List<Link>> links) {
+        return read(query) || refresh(links.get()) && read(query);
+    }
+
+    private boolean refresh(List<Link> links) {
+        links.forEach(link -> onChange(new EmployeeChangedEvent(link.employeeId(), link.managerId(),
+                link.userId(), null, link.active())));
+        return !links.isEmpty();
+    }
+
+    private <T> T read(Function<Index, T> query) {
+        lock.readLock().lock();
+        try {
+            if (index != null) {
+                return query.apply(index);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        // First use before the startup load finished
+        synchronized (reloadMonitor) {
+            if (!isLoaded()) {
+                doReload();
+            }
+        }
+        return read(query);
+    }
+
+    private boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return index != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mutable index; only accessed under the enclosing lock (or before it is published).
+     */
+    private static final class Index {
+
+        static final int NONE = -1;
+        private static final int[] NO_REPORTS = new int[0];
+
+        final Map<UUID, Integer> employeeIds = new HashMap<>();
+        final List<UUID> employees = new ArrayList<>();
+        final Map<UUID, Integer> userIds = new HashMap<>();
+        int userCount;
+
+        int[] managerOf = new int[16];
+        int[] userOf = new int[16];
+        int[] employeeOfUser = new int[16];
+        int[][] reportsOf = new int[16][];
+
+        int employeeId(UUID id) {
+            Integer value = id != null ? employeeIds.get(id) : null;
+            return value != null ? value : NONE;
+        }
+
+        int userId(UUID id) {
+            Integer value = id != null ? userIds.get(id) : null;
+            return value != null ? value : NONE;
+        }
+
+        boolean isInReportingChainOf(UUID managerUserId, UUID employeeId) {
+            int employee = employeeId(employeeId);
+            int manager = userId(managerUserId);
+            if (employee == NONE || manager == NONE) {
+                return false;
+            }
+            // Bounded walk up the chain, in case a concurrent move briefly leaves a cycle
+            for (int hops = 0; employee != NONE && hops < MAX_CHAIN_DEPTH; hops++) {
+                int above = managerOf[employee];
+                if (above == manager) {
+                    return true;
+                }
+                employee = above != NONE ? employeeOfUser[above] : NONE;
+            }
+            return false;
+        }
+
+        void put(UUID employeeUuid, UUID managerUuid, UUID userUuid) {
+            int employee = internEmployee(employeeUuid);
+            int manager = managerUuid != null ? internUser(managerUuid) : NONE;
+            int user = userUuid != null ? internUser(userUuid) : NONE;
+
+            int previousManager = managerOf[employee];
+            if (previousManager != manager) {
+                if (previousManager != NONE) {
+                    reportsOf[previousManager] = remove(reportsOf[previousManager], employee);
+                }
+                if (manager != NONE) {
+                    reportsOf[manager] = add(reportsOf[manager], employee);
+                }
+                managerOf[employee] = manager;
+            }
+
+            int previousUser = userOf[employee];
+            if (previousUser != user) {
+                if (previousUser != NONE && employeeOfUser[previousUser] == employee) {
+                    employeeOfUser[previousUser] = NONE;
+                }
+                if (user != NONE) {
+                    employeeOfUser[user] = employee;
+                }
+                userOf[employee] = user;
+            }
+        }
+
+        void removeUser(UUID userUuid) {
+            int user = userId(userUuid);
+            if (user == NONE) {
+                return;
+            }
+            for (int employee : reportsOf[user]) {
+                managerOf[employee] = NONE;
+            }
+            reportsOf[user] = NO_REPORTS;
+            int employee = employeeOfUser[user];
+            if (employee != NONE) {
+                userOf[employee] = NONE;
+                employeeOfUser[user] = NONE;
+            }
+        }
+
+        private int internEmployee(UUID id) {
+            Integer existing = employeeIds.get(id);
+            if (existing != null) {
+                return existing;
+            }
+            int employee = employees.size();
+            employees.add(id);
+            employeeIds.put(id, employee);
+            if (employee == managerOf.length) {
+                int capacity = employee * 2;
+                managerOf = Arrays.copyOf(managerOf, capacity);
+                userOf = Arrays.copyOf(userOf, capacity);
+            }
+            managerOf[employee] = NONE;
+            userOf[employee] = NONE;
+            return employee;
+        }
+
+        private int internUser(UUID id) {
+            Integer existing = userIds.get(id);
+            if (existing != null) {
+                return existing;
+            }
+            int user = userCount++;
+            userIds.put(id, user);
+            if (user == employeeOfUser.length) {
+                int capacity = user * 2;
+                employeeOfUser = Arrays.copyOf(employeeOfUser, capacity);
+                reportsOf = Arrays.copyOf(reportsOf, capacity);
+            }
+            employeeOfUser[user] = NONE;
+            reportsOf[user] = NO_REPORTS;
+            return user;
+        }
+
+        private static int[] add(int[] sorted, int value) {
+            int position = Arrays.binarySearch(sorted, value);
+            if (position >= 0) {
+                return sorted;
+            }
+            int insertAt = -position - 1;
+            int[] result = new int[sorted.length + 1];
+            System.arraycopy(sorted, 0, result, 0, insertAt);
+            result[insertAt] = value;
+            System.arraycopy(sorted, insertAt, result, insertAt + 1, sorted.length - insertAt);
+            return result;
+        }
+
+        private static int[] remove(int[] sorted, int value) {
+            int position = Arrays.binarySearch(sorted, value);
+            if (position < 0) {
+                return sorted;
+            }
+            int[] result = new int[sorted.length - 1];
+            System.arraycopy(sorted, 0, result, 0, position);
+            System.arraycopy(sorted, position + 1, result, position, sorted.length - position - 1);
+            return result;
+        }
+    }
+}
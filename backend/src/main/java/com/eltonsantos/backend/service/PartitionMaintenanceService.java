@@ -0,0 +1,92 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.repository.PartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+
+/**
+ * Keeps partitions created ahead of time, so rows never pile up in the default partition, and
+ * removes audit_logs months past the retention period. Runs at startup and daily; safe to run
+ * concurrently on several nodes.
+ */
+@Slf4j
+@Service
+public class PartitionMaintenanceService {
+
+    private final PartitionRepository partitionRepository;
+    private final int yearsAhead;
+    private final int auditMonthsAhead;
+    private final int auditRetentionMonths;
+    private final boolean dropExpiredAuditPartitions;
+
+    public PartitionMaintenanceService(PartitionRepository partitionRepository,
+                                       @Value("${vacation.partitions.years-ahead:2}") int yearsAhead,
+                                       @Value("${vacation.partitions.audit-months-ahead:3}") int auditMonthsAhead,
+                                       @Value("${vacation.audit.retention-months:24}") int auditRetentionMonths,
+                                       @Value("${vacation.audit.drop-expired-partitions:true}") boolean dropExpiredAuditPartitions) {
+        this.partitionRepository = partitionRepository;
+        this.yearsAhead = yearsAhead;
+        this.auditMonthsAhead = auditMonthsAhead;
+        this.auditRetentionMonths = auditRetentionMonths;
+        this.dropExpiredAuditPartitions = dropExpiredAuditPartitions;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        ensurePartitions();
+    }
+
+    @Scheduled(cron = "${vacation.partitions.cron:0 0 3 * * *}")
+    public void ensurePartitions() {
+        int currentYear = Year.now().getValue();
+        try {
+            int created = partitionRepository.ensureVacationRequestPartitions(currentYear, currentYear + yearsAhead);
+            if (created > 0) {
+                log.info("Created {} vacation_requests partition(s) up to {}", created, currentYear + yearsAhead);
+            }
+        } catch (Exception e) {
+            log.error("Failed to create vacation_requests partitions: {}", e.getMessage());
+        }
+
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        try {
+            int created = partitionRepository.ensureAuditLogPartitions(currentMonth, currentMonth.plusMonths(auditMonthsAhead));
+            if (created > 0) {
+                log.info("Created {} audit_logs partition(s) up to {}", created, currentMonth.plusMonths(auditMonthsAhead));
+            }
+        } catch (Exception e) {
+            log.error("Failed to create audit_logs partitions: {}", e.getMessage());
+        }
+
+        expireAuditLogs(currentMonth);
+    }
+
+    /**
+     * Removes the audit_logs months that ended more than {@code vacation.audit.retention-months}
+     * ago (0 keeps everything). Whole partitions are detached, and dropped unless
+     * {@code vacation.audit.drop-expired-partitions} is false.
+     */
+    void expireAuditLogs(LocalDate currentMonth) {
+        if (auditRetentionMonths <= 0) {
+            return;
+        }
+        LocalDate before = currentMonth.minusMonths(auditRetentionMonths);
+        try {
+            List<String> expired = partitionRepository.expireAuditLogPartitions(before, dropExpiredAuditPartitions);
+            if (!expired.isEmpty()) {
+                log.info("{} {} audit_logs partition(s) before {}: {}",
+                        dropExpiredAuditPartitions ? "Dropped" : "Detached", expired.size(), before, expired);
+            }
+        } catch (Exception e) {
+            log.error("Failed to expire audit_logs partitions: {}", e.getMessage());
+        }
+    }
+}
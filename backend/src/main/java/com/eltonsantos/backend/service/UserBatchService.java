@@ -0,0 +1,270 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.dto.request.CreateUserRequest;
+import com.eltonsantos.backend.dto.response.UserBatchResponse;
+import com.eltonsantos.backend.dto.response.UserBatchResponse.RowResult;
+import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.event.EmployeeChangedEvent;
+import com.eltonsantos.backend.event.UserChangedEvent;
+import com.eltonsantos.backend.exception.BusinessException;
+import com.eltonsantos.backend.exception.RetryLaterException;
+import com.eltonsantos.backend.repository.EmployeeImportRepository;
+import com.eltonsantos.backend.repository.EmployeeImportRepository.AuditEntry;
+import com.eltonsantos.backend.repository.ReportingChainRepository;
+import com.eltonsantos.backend.repository.UserBatchRepository;
+import com.eltonsantos.backend.repository.UserBatchRepository.NewLinkedEmployee;
+import com.eltonsantos.backend.repository.UserBatchRepository.NewUser;
+import com.eltonsantos.backend.security.CustomUserDetails;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bulk creation of users ({@code POST /users/batch}) with the same rules as
+ * {@link UserService#create}.
+ *
+ * <p>BCrypt is deliberately slow, so hashing dominates the cost of creating a user. Passwords
+ * are hashed in parallel on the {@code passwordHashExecutor} pool of
+ * {@code vacation.user-batch.hash-threads} threads (by default one less than the available cores,
+ * so request threads keep a core), before any database connection is taken. Its queue is bounded
+ * by {@code vacation.user-batch.hash-queue-capacity}; a batch that does not fit is rejected with
+ * 503 and {@code Retry-After}. Users, their employees, balances, reporting-chain links and audit
+ * entries are then written in JDBC batches in a single transaction. Invalid rows are skipped and
+ * reported in the results.</p>
+ */
+@Slf4j
+@Service
+public class UserBatchService {
+
+    private record ValidRow(int index, CreateUserRequest request, UUID userId, UUID employeeId) {}
+
+    private final UserBatchRepository userBatchRepository;
+    private final EmployeeImportRepository employeeImportRepository;
+    private final BalanceRolloverService balanceRolloverService;
+    private final ReportingChainRepository reportingChainRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int maxSize;
+    private final ThreadPoolTaskExecutor hashExecutor;
+
+    public UserBatchService(UserBatchRepository userBatchRepository,
+                            EmployeeImportRepository employeeImportRepository,
+                            BalanceRolloverService balanceRolloverService,
+                            ReportingChainRepository reportingChainRepository,
+                            PasswordEncoder passwordEncoder,
+                            AuthService authService,
+                            ApplicationEventPublisher eventPublisher,
+                            TransactionTemplate transactionTemplate,
+                            Validator validator,
+                            ObjectMapper objectMapper,
+                            @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor hashExecutor,
+                            @Value("${vacation.user-batch.max-size:1000}") int maxSize) {
+        this.userBatchRepository = userBatchRepository;
+        this.employeeImportRepository = employeeImportRepository;
+        this.balanceRolloverService = balanceRolloverService;
+        this.reportingChainRepository = reportingChainRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.authService = authService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.hashExecutor = hashExecutor;
+        this.maxSize = maxSize;
+    }
+
+    public UserBatchResponse createAll(List<CreateUserRequest> requests) {
+        if (requests.size() > maxSize) {
+            throw new BusinessException("No máximo " + maxSize + " usuários por lote");
+        }
+        long started = System.nanoTime();
+        CustomUserDetails actor = authService.getCurrentUserDetails();
+        RowResult[] results = new RowResult[requests.size()];
+
+        List<ValidRow> valid = validate(requests, results);
+
+        // Hash outside the transaction: no connection is held while the CPU works
+        List<CompletableFuture<String>> hashes = hash(valid);
+        List<NewUser> users = new ArrayList<>(valid.size());
+        for (int i = 0; i < valid.size(); i++) {
+            ValidRow row = valid.get(i);
+            users.add(new NewUser(row.userId(), row.request().getEmail(), hashes.get(i).join(), row.request().getRole()));
+        }
+
+        if (!valid.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> write(valid, users, actor, results));
+        }
+
+        long durationNanos = System.nanoTime() - started;
+        int created = (int) Arrays.stream(results).filter(RowResult::created).count();
+        double usersPerSecond = durationNanos > 0 ? created * 1_000_000_000.0 / durationNanos : 0;
+        log.info("User batch by {}: {} rows, {} created in {} ms ({} users/s)", actor.getId(), requests.size(),
+                created, durationNanos / 1_000_000, String.format("%.1f", usersPerSecond));
+        return new UserBatchResponse(requests.size(), created, requests.size() - created,
+                durationNanos / 1_000_000, Math.round(usersPerSecond * 10) / 10.0, List.of(results));
+    }
+
+    private List<ValidRow> validate(List<CreateUserRequest> requests, RowResult[] results) {
+        Set<String> emails = new HashSet<>();
+        Set<UUID> managerIds = new HashSet<>();
+        for (CreateUserRequest request : requests) {
+            if (request.getEmail() != null) {
+                emails.add(request.getEmail());
+            }
+            if (request.getManagerId() != null) {
+                managerIds.add(request.getManagerId());
+            }
+        }
+        Set<String> taken = emails.isEmpty() ? new HashSet<>() : userBatchRepository.findTakenEmails(emails);
+        Map<UUID, Role> managerRoles = managerIds.isEmpty() ? new HashMap<>() : userBatchRepository.findRoles(managerIds);
+
+        List<ValidRow> valid = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            CreateUserRequest request = requests.get(i);
+            String message = validate(request, managerRoles);
+            if (message == null && !taken.add(request.getEmail())) {
+                message = "Email já está em uso";
+            }
+            if (message != null) {
+                results[i] = RowResult.failed(i, request.getEmail(), message);
+            } else {
+                UUID employeeId = request.getRole() != Role.ADMIN ? UUID.randomUUID() : null;
+                valid.add(new ValidRow(i, request, UUID.randomUUID(), employeeId));
+            }
+        }
+        return valid;
+    }
+
+    private String validate(CreateUserRequest request, Map<UUID, Role> managerRoles) {
+        Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .reduce((a, b) -> a + "; " + b)
+                    .orElseThrow();
+        }
+        if (request.getRole() == Role.COLLABORATOR && request.getManagerId() == null) {
+            return "Colaboradores devem ser associados a um gestor";
+        }
+        if (request.getManagerId() != null) {
+            Role managerRole = managerRoles.get(request.getManagerId());
+            if (managerRole == null) {
+                return "Gestor não encontrado: " + request.getManagerId();
+            }
+            if (managerRole != Role.MANAGER && managerRole != Role.ADMIN) {
+                return "O usuário selecionado não é um gestor";
+            }
+        }
+        return null;
+    }
+
+    private void write(List<ValidRow> valid, List<NewUser> users, CustomUserDetails actor, RowResult[] results) {
+        int[] insertedUsers = userBatchRepository.insertUsers(users);
+        List<ValidRow> withEmployee = new ArrayList<>();
+        List<ValidRow> created = new ArrayList<>(valid.size());
+        for (int i = 0; i < valid.size(); i++) {
+            ValidRow row = valid.get(i);
+            if (insertedUsers[i] == 0) {
+                // Taken by a concurrent write after the emails were fetched
+                results[row.index()] = RowResult.failed(row.index(), row.request().getEmail(), "Email já está em uso");
+            } else if (row.employeeId() != null) {
+                withEmployee.add(row);
+            } else {
+                created.add(row);
+            }
+        }
+
+        if (!withEmployee.isEmpty()) {
+            int[] insertedEmployees = userBatchRepository.insertEmployees(withEmployee.stream()
+                    .map(row -> new NewLinkedEmployee(row.employeeId(), row.request().getFullName(),
+                            row.request().getEmail(), row.request().getManagerId(), row.userId()))
+                    .toList());
+            List<UUID> orphanUsers = new ArrayList<>();
+            List<UUID> employeeIds = new ArrayList<>(withEmployee.size());
+            for (int i = 0; i < withEmployee.size(); i++) {
+                ValidRow row = withEmployee.get(i);
+                if (insertedEmployees[i] == 0) {
+                    orphanUsers.add(row.userId());
+                    results[row.index()] = RowResult.failed(row.index(), row.request().getEmail(),
+                            "Já existe um colaborador com este email");
+                } else {
+                    employeeIds.add(row.employeeId());
+                    created.add(row);
+                }
+            }
+            if (!orphanUsers.isEmpty()) {
+                userBatchRepository.deleteUsers(orphanUsers);
+            }
+            if (!employeeIds.isEmpty()) {
+                balanceRolloverService.createBalances(employeeIds, Year.now().getValue());
+                // New users have no reports yet, so only the employees themselves need linking
+                reportingChainRepository.attachNewEmployees(employeeIds);
+            }
+        }
+
+        if (created.isEmpty()) {
+            return;
+        }
+        employeeImportRepository.insertAuditLogs(actor.getId(), actor.getEmail(), "CREATE_USER", "User",
+                created.stream().map(this::auditEntry).toList());
+        for (ValidRow row : created) {
+            results[row.index()] = RowResult.created(row.index(), row.request().getEmail(), row.userId());
+            eventPublisher.publishEvent(new UserChangedEvent(row.userId()));
+            if (row.employeeId() != null) {
+                eventPublisher.publishEvent(new EmployeeChangedEvent(row.employeeId(),
+                        row.request().getManagerId(), row.userId(), null, true));
+            }
+        }
+    }
+
+    private AuditEntry auditEntry(ValidRow row) {
+        try {
+            return new AuditEntry(row.userId(), objectMapper.writeValueAsString(Map.of(
+                    "email", row.request().getEmail(), "role", row.request().getRole().name(), "source", "batch")));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<CompletableFuture<String>> hash(List<ValidRow> valid) {
+        List<CompletableFuture<String>> hashes = new ArrayList<>(valid.size());
+        try {
+            for (ValidRow row : valid) {
+                hashes.add(CompletableFuture.supplyAsync(
+                        () -> passwordEncoder.encode(row.request().getPassword()), hashExecutor));
+            }
+        } catch (TaskRejectedException e) {
+            // A cancelled task is skipped when its turn comes, so the queued part is not hashed for nothing
+            hashes.forEach(hash -> hash.cancel(false));
+            log.warn("User batch of {} rows rejected: password hashing queue is full", valid.size());
+            throw new RetryLaterException("Too many user batches in progress, try again later", 10);
+        }
+        return hashes;
+    }
+}
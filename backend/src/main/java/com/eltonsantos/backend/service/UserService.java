@@ -8,16 +8,20 @@ import com.eltonsantos.backend.entity.Employee;
 import com.eltonsantos.backend.entity.User;
 import com.eltonsantos.backend.entity.VacationBalance;
 import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.event.EmployeeChangedEvent;
+import com.eltonsantos.backend.event.UserChangedEvent;
+import com.eltonsantos.backend.event.UserDeletedEvent;
 import com.eltonsantos.backend.exception.BusinessException;
 import com.eltonsantos.backend.exception.ResourceNotFoundException;
 import com.eltonsantos.backend.repository.EmployeeRepository;
+import com.eltonsantos.backend.repository.ReportingChainRepository;
 import com.eltonsantos.backend.repository.UserRepository;
 import com.eltonsantos.backend.repository.VacationBalanceRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import java.util.List;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,6 +40,9 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final AuditService auditService;
     private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReportingChainRepository reportingChainRepository;
+    private final ManagerDirectory managerDirectory;
 
     @Transactional(readOnly = true)
     public PageResponse<UserResponse> findAll(Pageable pageable) {
@@ -49,11 +56,12 @@ public class UserService {
         return UserResponse.fromEntity(user);
     }
 
-    @Transactional(readOnly = true)
-    public List<UserResponse> findManagers() {
-        return userRepository.findByRole(Role.MANAGER).stream()
-                .map(UserResponse::fromEntity)
-                .toList();
+    /**
+     * Served from the {@link ManagerDirectory}, not the database. The list and its strong ETag
+     * come from the same snapshot, so they always match.
+     */
+    public ManagerDirectory.Entry findManagers() {
+        return managerDirectory.find();
     }
 
     @Transactional
@@ -95,7 +103,9 @@ public class UserService {
                     .manager(manager) // Associate with manager (null for MANAGER role)
                     .active(true)
                     .build();
-            employee = employeeRepository.save(employee);
+            employee = employeeRepository.saveAndFlush(employee);
+            reportingChainRepository.attach(employee.getId(), manager != null ? manager.getId() : null, user.getId());
+            eventPublisher.publishEvent(EmployeeChangedEvent.of(employee));
 
             // Create vacation balance for current year
             VacationBalance balance = VacationBalance.builder()
@@ -111,6 +121,7 @@ public class UserService {
         User currentUser = authService.getCurrentUserEntity();
         auditService.log(currentUser, "CREATE_USER", "User", user.getId(),
                 Map.of("email", user.getEmail(), "role", user.getRole().name()));
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
 
         return UserResponse.fromEntity(user);
     }
@@ -143,6 +154,7 @@ public class UserService {
         User currentUser = authService.getCurrentUserEntity();
         auditService.log(currentUser, "UPDATE_USER", "User", user.getId(),
                 Map.of("email", user.getEmail(), "role", user.getRole().name()));
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
 
         return UserResponse.fromEntity(user);
     }
@@ -158,10 +170,15 @@ public class UserService {
         }
 
         // Soft delete associated employee if exists
+        // and detach its reports from the managers above it (their links to this user cascade on delete)
         employeeRepository.findByUserId(id).ifPresent(employee -> {
+            reportingChainRepository.detach(employee.getId(), id);
             employee.setActive(false);
             employee.setUser(null);
-            employeeRepository.save(employee);
+            employeeRepository.saveAndFlush(employee);
+            reportingChainRepository.attach(employee.getId(),
+                    employee.getManager() != null ? employee.getManager().getId() : null, null);
+            eventPublisher.publishEvent(EmployeeChangedEvent.of(employee, id));
         });
 
         User currentUser = authService.getCurrentUserEntity();
@@ -169,6 +186,8 @@ public class UserService {
                 Map.of("email", user.getEmail()));
 
         userRepository.delete(user);
+        // employees.manager_id is set to NULL by the database for the deleted manager
+        eventPublisher.publishEvent(new UserDeletedEvent(id));
     }
 
     private User getUserById(UUID id) {
@@ -0,0 +1,293 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.dto.response.VacationEventResponse;
+import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.event.VacationChangeNotification;
+import com.eltonsantos.backend.event.VacationChangedEvent;
+import com.eltonsantos.backend.security.CustomUserDetails;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-Sent Events feed of vacation changes, scoped by role: admins see every request,
+ * managers those of everyone below them and collaborators their own.
+ *
+ * <ul>
+ *   <li>Each connection has a bounded queue drained by a shared sender pool, so a slow client
+ *       never blocks the committing thread or other clients. A connection whose queue overflows
+ *       is closed; the client reconnects and resumes with {@code Last-Event-ID}.</li>
+ *   <li>Changes arrive as {@code vacation_changes} database notifications, sent on commit by a
+ *       trigger, so every node sees the changes made on every other node.</li>
+ *   <li>The last events are kept in a ring buffer for resuming. Event ids are the row's
+ *       change_seq and the vacation id, the same on every node, so a client may resume on any
+ *       of them; when an id is not in the buffer (too old, or lost while the notification
+ *       connection was down) a {@code reset} event tells the client to reload instead.</li>
+ *   <li>Idle connections get a comment line as heartbeat to keep proxies from closing them.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class VacationEventStream {
+
+    public static final String EVENT_NAME = "vacation";
+    public static final String RESET_EVENT_NAME = "reset";
+
+    private record BufferedEvent(String id, VacationChangedEvent event, VacationEventResponse payload) {}
+
+    private final AuthService authService;
+    private final OrgHierarchy orgHierarchy;
+    private final DatabaseNotifications databaseNotifications;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int queueCapacity;
+    private final long timeoutMs;
+    private final Counter droppedConnections;
+    private final ExecutorService sender;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    // Guarded by this
+    private final ArrayDeque<BufferedEvent> buffer = new ArrayDeque<>();
+    private boolean connected;
+
+    public VacationEventStream(AuthService authService,
+                               OrgHierarchy orgHierarchy,
+                               DatabaseNotifications databaseNotifications,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${vacation.stream.buffer-size:1000}") int bufferSize,
+                               @Value("${vacation.stream.queue-capacity:100}") int queueCapacity,
+                               @Value("${vacation.stream.timeout-ms:1800000}") long timeoutMs,
+                               @Value("${vacation.stream.sender-threads:2}") int senderThreads) {
+        this.authService = authService;
+        this.orgHierarchy = orgHierarchy;
+        this.databaseNotifications = databaseNotifications;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMs = timeoutMs;
+        this.sender = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("vacation-stream-"));
+        this.droppedConnections = Counter.builder("vacation.stream.dropped")
+                .description("Stream connections closed because the client could not keep up")
+                .register(meterRegistry);
+        Gauge.builder("vacation.stream.connections", subscriptions, Set::size)
+                .description("Open vacation stream connections")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for the current user, first replaying the events after {@code lastEventId}.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        CustomUserDetails currentUser = authService.getCurrentUserDetails();
+        SseEmitter emitter = createEmitter();
+        Subscription subscription = new Subscription(emitter, currentUser.getRole(), currentUser.getId());
+
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscriptions.remove(subscription));
+
+        synchronized (this) {
+            replay(subscription, lastEventId);
+            subscriptions.add(subscription);
+        }
+        return emitter;
+    }
+
+    @PostConstruct
+    public void listen() {
+        databaseNotifications.subscribe(VacationChangeNotification.CHANNEL, new DatabaseNotifications.Listener() {
+            @Override
+            public void onNotification(String payload) {
+                try {
+                    VacationChangeNotification change = objectMapper.readValue(payload, VacationChangeNotification.class);
+                    publish(change.eventId(), change.toEvent());
+                } catch (JsonProcessingException e) {
+                    log.error("Ignoring malformed vacation change notification: {}", e.getMessage());
+                }
+            }
+
+            @Override
+            public void onConnected() {
+                reconnected();
+            }
+        });
+    }
+
+    private void publish(String id, VacationChangedEvent event) {
+        VacationEventResponse payload = VacationEventResponse.fromEvent(event);
+        synchronized (this) {
+            BufferedEvent buffered = new BufferedEvent(id, event, payload);
+            buffer.addLast(buffered);
+            if (buffer.size() > bufferSize) {
+                buffer.removeFirst();
+            }
+            for (Subscription subscription : subscriptions) {
+                if (subscription.canSee(event)) {
+                    subscription.enqueue(toSse(buffered));
+                }
+            }
+        }
+    }
+
+    /**
+     * Changes committed while the notification connection was down were never received, so the
+     * buffer no longer tells what a client missed: it is dropped and open streams are reset.
+     */
+    private synchronized void reconnected() {
+        if (!connected) {
+            connected = true;
+            return;
+        }
+        buffer.clear();
+        for (Subscription subscription : subscriptions) {
+            subscription.enqueue(resetEvent());
+        }
+    }
+
+    @Scheduled(fixedRateString = "${vacation.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.queue.isEmpty()) {
+                subscription.enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(Subscription::close);
+        sender.shutdownNow();
+    }
+
+    private void replay(Subscription subscription, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return;
+        }
+
+        boolean found = false;
+        List<SseEmitter.SseEventBuilder> missed = new ArrayList<>();
+        for (BufferedEvent buffered : buffer) {
+            if (found && subscription.canSee(buffered.event())) {
+                missed.add(toSse(buffered));
+            }
+            found = found || buffered.id().equals(lastEventId);
+        }
+        if (!found || missed.size() > queueCapacity) {
+            subscription.enqueue(resetEvent());
+            return;
+        }
+        missed.forEach(subscription::enqueue);
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(BufferedEvent buffered) {
+        return SseEmitter.event()
+                .id(buffered.id())
+                .name(EVENT_NAME)
+                .data(buffered.payload());
+    }
+
+    private SseEmitter.SseEventBuilder resetEvent() {
+        // Carries the newest position, if any, so the client can resume from it after reloading
+        SseEmitter.SseEventBuilder reset = SseEmitter.event().name(RESET_EVENT_NAME).data("reload");
+        return buffer.isEmpty() ? reset : reset.id(buffer.peekLast().id());
+    }
+
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+        private final Role role;
+        private final UUID userId;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscription(SseEmitter emitter, Role role, UUID userId) {
+            this.emitter = emitter;
+            this.role = role;
+            this.userId = userId;
+        }
+
+        boolean canSee(VacationChangedEvent event) {
+            return switch (role) {
+                case ADMIN -> true;
+                case MANAGER -> orgHierarchy.isInReportingChainOfIndexed(userId, event.employeeId());
+                case COLLABORATOR -> userId.equals(event.employeeUserId());
+            };
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                log.debug("Closing vacation stream for user {}: client is not keeping up", userId);
+                droppedConnections.increment();
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!closed && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Vacation stream for user {} closed: {}", userId, e.getMessage());
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscriptions.remove(this);
+            queue.clear();
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // Already completed
+            }
+        }
+    }
+}
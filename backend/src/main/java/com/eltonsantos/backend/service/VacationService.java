@@ -1,8 +1,11 @@
 package com.eltonsantos.backend.service;
 
+import com.eltonsantos.backend.config.RetryOnOptimisticLock;
 import com.eltonsantos.backend.dto.request.VacationDecisionRequest;
 import com.eltonsantos.backend.dto.request.VacationRequestDto;
+import com.eltonsantos.backend.dto.response.KeysetPageResponse;
 import com.eltonsantos.backend.dto.response.PageResponse;
+import com.eltonsantos.backend.dto.response.VacationChangesResponse;
 import com.eltonsantos.backend.dto.response.VacationResponse;
 import com.eltonsantos.backend.entity.Employee;
 import com.eltonsantos.backend.entity.User;
@@ -11,34 +14,52 @@ import com.eltonsantos.backend.enums.Role;
 import com.eltonsantos.backend.enums.VacationStatus;
 import com.eltonsantos.backend.exception.BusinessException;
 import com.eltonsantos.backend.exception.ResourceNotFoundException;
+import com.eltonsantos.backend.exception.RetryLaterException;
 import com.eltonsantos.backend.exception.UnauthorizedException;
 import com.eltonsantos.backend.exception.VacationOverlapException;
 import com.eltonsantos.backend.repository.EmployeeRepository;
 import com.eltonsantos.backend.repository.VacationRequestRepository;
 import com.eltonsantos.backend.security.CustomUserDetails;
+import com.eltonsantos.backend.util.ChangeCursor;
+import com.eltonsantos.backend.util.ETags;
+import com.eltonsantos.backend.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class VacationService {
 
+    private static final int MAX_KEYSET_PAGE_SIZE = 100;
+    private static final long CHANGES_MAX_WAIT_MS = 1_000;
+    private static final long CHANGES_POLL_MS = 100;
+    private static final long CHANGES_RETRY_AFTER_SECONDS = 5;
+
     private final VacationRequestRepository vacationRequestRepository;
     private final EmployeeRepository employeeRepository;
     private final AuthService authService;
     private final AuditService auditService;
     private final BalanceService balanceService;
+    private final EmployeeLockService employeeLockService;
+    private final BusinessDayCalendar businessDayCalendar;
+    private final OrgHierarchy orgHierarchy;
+    private final EmployeeIdCache employeeIdCache;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional(readOnly = true)
     public PageResponse<VacationResponse> findAll(Pageable pageable) {
@@ -48,20 +69,133 @@ public class VacationService {
         if (currentUser.getRole() == Role.ADMIN) {
             page = vacationRequestRepository.findAll(pageable);
         } else if (currentUser.getRole() == Role.MANAGER) {
-            page = vacationRequestRepository.findByManagerId(currentUser.getId(), pageable);
+            page = vacationRequestRepository.findByAncestorId(currentUser.getId(), pageable);
         } else {
-            Employee employee = employeeRepository.findByUserId(currentUser.getId())
+            UUID employeeId = employeeIdCache.findEmployeeIdByUserId(currentUser.getId())
                     .orElseThrow(() -> new ResourceNotFoundException("Employee not found for current user"));
-            page = vacationRequestRepository.findByEmployeeId(employee.getId(), pageable);
+            page = vacationRequestRepository.findByEmployeeId(employeeId, pageable);
         }
 
         return PageResponse.from(page, VacationResponse::fromEntity);
     }
 
+    /**
+     * Requests waiting for a decision, oldest first. Managers only see their own team.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPageResponse<VacationResponse> findPending(String cursor, int size) {
+        CustomUserDetails currentUser = authService.getCurrentUserDetails();
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        size = Math.max(1, Math.min(size, MAX_KEYSET_PAGE_SIZE));
+        int limit = size + 1;
+        List<VacationRequestRepository.PendingView> keys;
+
+        if (currentUser.getRole() == Role.ADMIN) {
+            keys = after == null
+                    ? vacationRequestRepository.findPendingKeys(limit)
+                    : vacationRequestRepository.findPendingKeysAfter(after.timestamp(), after.id(), limit);
+        } else if (currentUser.getRole() == Role.MANAGER) {
+            keys = after == null
+                    ? vacationRequestRepository.findPendingKeysByManagerId(currentUser.getId(), limit)
+                    : vacationRequestRepository.findPendingKeysByManagerIdAfter(
+                            currentUser.getId(), after.timestamp(), after.id(), limit);
+        } else {
+            throw new UnauthorizedException("Only Admin and Manager can view the approval queue");
+        }
+
+        // Paging is decided on the keys: a row deleted before it is loaded shrinks the page but
+        // must not end the queue early or move the cursor
+        boolean hasNext = keys.size() > size;
+        List<VacationRequestRepository.PendingView> page = hasNext ? keys.subList(0, size) : keys;
+        List<UUID> ids = page.stream().map(VacationRequestRepository.PendingView::getId).toList();
+        Map<UUID, VacationRequest> byId = vacationRequestRepository.findAllWithEmployeeByIdIn(ids).stream()
+                .collect(Collectors.toMap(VacationRequest::getId, Function.identity()));
+        List<VacationResponse> content = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(VacationResponse::fromEntity)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            VacationRequestRepository.PendingView last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getRequestedAt(), last.getId()).encode();
+        }
+        return new KeysetPageResponse<>(content, size, nextCursor, hasNext);
+    }
+
+    /**
+     * Requests changed after {@code since}, in change order, for incremental syncs.
+     * The returned cursor is always set so the client can resume from it later.
+     *
+     * <p>Changes behind a write transaction that is still open are held back (see
+     * {@link VacationRequestRepository#findChangesAfter}). When those are all that is left, this
+     * waits up to {@value #CHANGES_MAX_WAIT_MS} ms, outside any transaction, and then asks the
+     * client to retry later rather than answering an empty page that reads as "up to date".</p>
+     */
+    public VacationChangesResponse findChanges(String since, int size) {
+        ChangeCursor after = ChangeCursor.decode(since);
+        size = Math.max(1, Math.min(size, MAX_KEYSET_PAGE_SIZE));
+
+        List<VacationRequestRepository.ChangeView> rows = awaitChanges(after, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<VacationRequestRepository.ChangeView> page = hasMore ? rows.subList(0, size) : rows;
+        if (page.isEmpty()) {
+            return new VacationChangesResponse(List.of(), after.encode(), false);
+        }
+
+        List<UUID> ids = page.stream().map(VacationRequestRepository.ChangeView::getId).toList();
+        List<VacationResponse> changes = transactionTemplate.execute(status -> {
+            Map<UUID, VacationRequest> byId = vacationRequestRepository.findAllWithEmployeeByIdIn(ids).stream()
+                    .collect(Collectors.toMap(VacationRequest::getId, Function.identity()));
+            return ids.stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .map(VacationResponse::fromEntity)
+                    .toList();
+        });
+
+        VacationRequestRepository.ChangeView last = page.get(page.size() - 1);
+        return new VacationChangesResponse(changes, new ChangeCursor(last.getChangeSeq(), last.getId()).encode(), hasMore);
+    }
+
+    private List<VacationRequestRepository.ChangeView> awaitChanges(ChangeCursor after, int limit) {
+        long deadline = System.currentTimeMillis() + CHANGES_MAX_WAIT_MS;
+        while (true) {
+            List<VacationRequestRepository.ChangeView> rows =
+                    vacationRequestRepository.findChangesAfter(after.sequence(), after.id(), limit);
+            if (!rows.isEmpty() || !vacationRequestRepository.existsHeldBackChangesAfter(after.sequence(), after.id())) {
+                return rows;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new RetryLaterException("Changes are held back by a transaction still in progress",
+                        CHANGES_RETRY_AFTER_SECONDS);
+            }
+            try {
+                Thread.sleep(CHANGES_POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RetryLaterException("Interrupted while waiting for changes", CHANGES_RETRY_AFTER_SECONDS);
+            }
+        }
+    }
+
+    /**
+     * Strong ETag for {@link #findById}, read from the version columns only, after the same
+     * access check.
+     */
+    @Transactional(readOnly = true)
+    public String findETagById(UUID id) {
+        VacationRequestRepository.VersionView version = vacationRequestRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("VacationRequest", "id", id));
+        validateReadAccess(version.getEmployeeId());
+        return ETags.of(version.getVersion(), version.getEmployeeUpdatedAt(), version.getDecidedByUpdatedAt());
+    }
+
     @Transactional(readOnly = true)
     public VacationResponse findById(UUID id) {
         VacationRequest vacation = getVacationById(id);
-        validateReadAccess(vacation);
+        validateReadAccess(vacation.getEmployee().getId());
         return VacationResponse.fromEntity(vacation);
     }
 
@@ -74,6 +208,9 @@ public class VacationService {
 
         validateCreateAccess(employee);
 
+        // Serialise writes for this employee across nodes before reading balance and overlaps
+        employeeLockService.lockEmployee(employee.getId(), "create");
+
         // Validate vacation balance
         int requestedDays = calculateDays(request.startDate(), request.endDate());
         validateBalance(employee.getId(), request.startDate().getYear(), requestedDays);
@@ -85,6 +222,7 @@ public class VacationService {
                 .employee(employee)
                 .startDate(request.startDate())
                 .endDate(request.endDate())
+                .businessDays(requestedDays)
                 .reason(request.reason())
                 .status(VacationStatus.PENDING)
                 .build();
@@ -100,6 +238,7 @@ public class VacationService {
         return VacationResponse.fromEntity(vacation);
     }
 
+    @RetryOnOptimisticLock("vacation.update")
     @Transactional
     public VacationResponse update(UUID id, VacationRequestDto request) {
         VacationRequest vacation = getVacationById(id);
@@ -111,11 +250,14 @@ public class VacationService {
         validateUpdateAccess(vacation);
         validateDates(request.startDate(), request.endDate());
 
+        employeeLockService.lockEmployee(vacation.getEmployee().getId(), "update");
+
         // Check for overlapping vacations (excluding current request)
         checkOverlap(request.startDate(), request.endDate(), vacation.getId());
 
         vacation.setStartDate(request.startDate());
         vacation.setEndDate(request.endDate());
+        vacation.setBusinessDays(calculateDays(request.startDate(), request.endDate()));
         vacation.setReason(request.reason());
 
         vacation = vacationRequestRepository.save(vacation);
@@ -128,6 +270,7 @@ public class VacationService {
         return VacationResponse.fromEntity(vacation);
     }
 
+    @RetryOnOptimisticLock("vacation.cancel")
     @Transactional
     public VacationResponse cancel(UUID id) {
         VacationRequest vacation = getVacationById(id);
@@ -137,7 +280,9 @@ public class VacationService {
             throw new BusinessException("Vacation request is already cancelled");
         }
 
-        // If it was approved, restore balance
+        employeeLockService.lockEmployee(vacation.getEmployee().getId(), "cancel");
+
+        // If it was approved, restore the days charged at approval time
         if (vacation.getStatus() == VacationStatus.APPROVED) {
             int days = (int) vacation.getDaysCount();
             balanceService.restoreDays(
@@ -157,6 +302,7 @@ public class VacationService {
         return VacationResponse.fromEntity(vacation);
     }
 
+    @RetryOnOptimisticLock("vacation.approve")
     @Transactional
     public VacationResponse approve(UUID id, VacationDecisionRequest request) {
         VacationRequest vacation = getVacationById(id);
@@ -166,6 +312,8 @@ public class VacationService {
             throw new BusinessException("Only PENDING vacation requests can be approved");
         }
 
+        employeeLockService.lockEmployee(vacation.getEmployee().getId(), "approve");
+
         // Re-validate overlap before approving (race condition protection)
         checkOverlap(vacation.getStartDate(), vacation.getEndDate(), vacation.getId());
 
@@ -176,6 +324,7 @@ public class VacationService {
         User currentUser = authService.getCurrentUserEntity();
 
         vacation.setStatus(VacationStatus.APPROVED);
+        vacation.setBusinessDays(days);
         vacation.setDecisionAt(LocalDateTime.now());
         vacation.setDecidedBy(currentUser);
         vacation.setManagerComment(request != null ? request.comment() : null);
@@ -198,6 +347,7 @@ public class VacationService {
         return VacationResponse.fromEntity(vacation);
     }
 
+    @RetryOnOptimisticLock("vacation.reject")
     @Transactional
     public VacationResponse reject(UUID id, VacationDecisionRequest request) {
         VacationRequest vacation = getVacationById(id);
@@ -266,6 +416,9 @@ public class VacationService {
         if (startDate.isAfter(endDate)) {
             throw new BusinessException("Start date must be before or equal to end date");
         }
+        if (endDate.toEpochDay() - startDate.toEpochDay() > VacationRequest.MAX_SPAN_DAYS) {
+            throw new BusinessException("Vacation period cannot be longer than one year");
+        }
     }
 
     private VacationRequest getVacationById(UUID id) {
@@ -273,25 +426,19 @@ public class VacationService {
                 .orElseThrow(() -> new ResourceNotFoundException("VacationRequest", "id", id));
     }
 
-    private void validateReadAccess(VacationRequest vacation) {
+    private void validateReadAccess(UUID employeeId) {
         CustomUserDetails currentUser = authService.getCurrentUserDetails();
 
         if (currentUser.getRole() == Role.ADMIN) {
             return;
         }
 
-        if (currentUser.getRole() == Role.MANAGER) {
-            Employee employee = vacation.getEmployee();
-            if (employee.getManager() != null && employee.getManager().getId().equals(currentUser.getId())) {
-                return;
-            }
+        if (currentUser.getRole() == Role.MANAGER && orgHierarchy.isInReportingChainOf(currentUser.getId(), employeeId)) {
+            return;
         }
 
-        if (currentUser.getRole() == Role.COLLABORATOR) {
-            Employee employee = vacation.getEmployee();
-            if (employee.getUser() != null && employee.getUser().getId().equals(currentUser.getId())) {
-                return;
-            }
+        if (currentUser.getRole() == Role.COLLABORATOR && orgHierarchy.isUserOf(currentUser.getId(), employeeId)) {
+            return;
         }
 
         throw new UnauthorizedException("You do not have permission to view this vacation request");
@@ -305,7 +452,7 @@ public class VacationService {
         }
 
         if (currentUser.getRole() == Role.COLLABORATOR) {
-            if (employee.getUser() == null || !employee.getUser().getId().equals(currentUser.getId())) {
+            if (!orgHierarchy.isUserOf(currentUser.getId(), employee.getId())) {
                 throw new UnauthorizedException("Collaborators can only create vacation requests for themselves");
             }
         }
@@ -318,9 +465,8 @@ public class VacationService {
             return;
         }
 
-        Employee employee = vacation.getEmployee();
         if (currentUser.getRole() == Role.COLLABORATOR) {
-            if (employee.getUser() == null || !employee.getUser().getId().equals(currentUser.getId())) {
+            if (!orgHierarchy.isUserOf(currentUser.getId(), vacation.getEmployee().getId())) {
                 throw new UnauthorizedException("You can only update your own vacation requests");
             }
         }
@@ -333,8 +479,7 @@ public class VacationService {
             return;
         }
 
-        Employee employee = vacation.getEmployee();
-        if (employee.getUser() == null || !employee.getUser().getId().equals(currentUser.getId())) {
+        if (!orgHierarchy.isUserOf(currentUser.getId(), vacation.getEmployee().getId())) {
             throw new UnauthorizedException("You can only cancel your own vacation requests");
         }
     }
@@ -343,8 +488,8 @@ public class VacationService {
         CustomUserDetails currentUser = authService.getCurrentUserDetails();
 
         // Block self-approval - no one can approve their own vacation (except handled by admin)
-        Employee employee = vacation.getEmployee();
-        if (employee.getUser() != null && employee.getUser().getId().equals(currentUser.getId())) {
+        UUID employeeId = vacation.getEmployee().getId();
+        if (orgHierarchy.isUserOf(currentUser.getId(), employeeId)) {
             throw new UnauthorizedException("You cannot approve your own vacation request");
         }
 
@@ -353,7 +498,7 @@ public class VacationService {
         }
 
         if (currentUser.getRole() == Role.MANAGER) {
-            if (employee.getManager() != null && employee.getManager().getId().equals(currentUser.getId())) {
+            if (orgHierarchy.isManagerOf(currentUser.getId(), employeeId)) {
                 return;
             }
             throw new UnauthorizedException("Managers can only approve/reject vacation requests from their team");
@@ -363,7 +508,11 @@ public class VacationService {
     }
 
     private int calculateDays(LocalDate startDate, LocalDate endDate) {
-        return (int) (endDate.toEpochDay() - startDate.toEpochDay()) + 1;
+        int days = businessDayCalendar.countBusinessDays(startDate, endDate);
+        if (days == 0) {
+            throw new BusinessException("The requested period contains no business days");
+        }
+        return days;
     }
 
     private void validateBalance(UUID employeeId, int year, int requestedDays) {
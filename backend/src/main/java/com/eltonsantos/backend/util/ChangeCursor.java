@@ -0,0 +1,42 @@
+package com.eltonsantos.backend.util;
+
+import com.eltonsantos.backend.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in the vacation change feed, ordered by (change_seq, id).
+ * Encoded as an opaque URL-safe token like {@link KeysetCursor}.
+ */
+public record ChangeCursor(long sequence, UUID id) {
+
+    /** Position before any change, used when the client has not synced yet. */
+    public static final ChangeCursor START = new ChangeCursor(-1, new UUID(0, 0));
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = sequence + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}. Returns {@link #START} for a blank token.
+     */
+    public static ChangeCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new ChangeCursor(
+                    Long.parseLong(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid cursor");
+        }
+    }
+}
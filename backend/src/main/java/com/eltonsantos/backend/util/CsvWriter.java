@@ -0,0 +1,47 @@
+package com.eltonsantos.backend.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes RFC 4180 CSV records, the counterpart of {@link CsvReader}.
+ *
+ * <p>Fields containing separators, quotes or line breaks are quoted. Text starting with
+ * {@code = + - @} is prefixed with a single quote so spreadsheets do not evaluate it as a
+ * formula. Null values are written as empty fields.</p>
+ */
+public class CsvWriter {
+
+    private final Writer writer;
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeField(values[i].toString(), values[i] instanceof CharSequence);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeField(String value, boolean text) throws IOException {
+        if (text && !value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
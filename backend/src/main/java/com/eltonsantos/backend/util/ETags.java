@@ -0,0 +1,38 @@
+package com.eltonsantos.backend.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.StringJoiner;
+
+/**
+ * Builds strong ETags from the version columns a response is derived from.
+ * The value only has to change whenever any of the parts change, so the parts are
+ * written out as-is (timestamps as epoch microseconds) instead of hashing the body.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(Object... parts) {
+        StringJoiner joiner = new StringJoiner("-", "\"", "\"");
+        for (Object part : parts) {
+            joiner.add(format(part));
+        }
+        return joiner.toString();
+    }
+
+    private static String format(Object part) {
+        if (part == null) {
+            return "0";
+        }
+        if (part instanceof LocalDateTime timestamp) {
+            long micros = timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + timestamp.getNano() / 1_000;
+            return Long.toString(micros, 36);
+        }
+        if (part instanceof Number number) {
+            return Long.toString(number.longValue(), 36);
+        }
+        return part.toString();
+    }
+}
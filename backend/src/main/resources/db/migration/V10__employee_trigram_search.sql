@@ -0,0 +1,10 @@
+-- ============================================
+-- V10__employee_trigram_search.sql
+-- Trigram indexes for the employee type-ahead search (GET /employees/search).
+-- They serve both substring matches (ILIKE '%term%') and similarity
+-- matches (full_name % term). Only active employees are searchable.
+-- ============================================
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_employees_full_name_trgm ON employees USING GIN (full_name gin_trgm_ops) WHERE active = true;
+CREATE INDEX idx_employees_email_trgm ON employees USING GIN (email gin_trgm_ops) WHERE active = true;
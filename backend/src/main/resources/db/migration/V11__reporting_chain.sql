@@ -0,0 +1,33 @@
+-- ============================================
+-- V11__reporting_chain.sql
+-- Closure table of the reporting hierarchy: one row per (manager user,
+-- employee) pair at any depth, so "everyone below this manager" is a single
+-- indexed join. Depth 1 is the direct manager (employees.manager_id); a
+-- manager's own manager is reached through the employee linked to that user.
+-- Maintained by the application on manager and user-link changes.
+-- ============================================
+CREATE TABLE reporting_chain (
+    ancestor_user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    employee_id UUID NOT NULL REFERENCES employees(id) ON DELETE CASCADE,
+    depth INTEGER NOT NULL CHECK (depth > 0),
+    PRIMARY KEY (ancestor_user_id, employee_id)
+);
+
+-- Ancestors of an employee (used when moving a subtree)
+CREATE INDEX idx_reporting_chain_employee ON reporting_chain(employee_id);
+
+-- Backfill from the current manager links
+WITH RECURSIVE chain AS (
+    SELECT e.id AS employee_id, e.manager_id AS ancestor_user_id, 1 AS depth
+    FROM employees e
+    WHERE e.manager_id IS NOT NULL
+    UNION ALL
+    SELECT c.employee_id, m.manager_id, c.depth + 1
+    FROM chain c
+    JOIN employees m ON m.user_id = c.ancestor_user_id
+    WHERE m.manager_id IS NOT NULL AND c.depth < 64
+)
+INSERT INTO reporting_chain (ancestor_user_id, employee_id, depth)
+SELECT ancestor_user_id, employee_id, MIN(depth)
+FROM chain
+GROUP BY ancestor_user_id, employee_id;
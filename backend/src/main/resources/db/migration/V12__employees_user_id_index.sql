@@ -0,0 +1,7 @@
+-- ============================================
+-- V12__employees_user_id_index.sql
+-- employees.user_id is looked up on every "my employee" path (profile,
+-- current user, user updates and deletes) but had no index. Most imported
+-- employees have no user, so only linked rows are indexed.
+-- ============================================
+CREATE INDEX idx_employees_user_id ON employees(user_id) WHERE user_id IS NOT NULL;
@@ -0,0 +1,130 @@
+-- ============================================
+-- V13__partition_audit_logs.sql
+-- Converts audit_logs into a table range-partitioned by created_at month.
+--
+-- * One partition per month (audit_logs_p202601, ...) plus a default
+--   partition that catches anything outside the created ranges.
+-- * The primary key must contain the partition key, so it becomes (id, created_at).
+-- * Future partitions are created by ensure_audit_logs_partitions() and old
+--   ones detached or dropped whole by expire_audit_logs_partitions(), both
+--   called from the application's partition maintenance job. Expiring a month
+--   is a catalog operation, no matter how many rows it holds.
+-- ============================================
+
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+
+CREATE TABLE audit_logs (
+    id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    -- Named explicitly: audit_logs_legacy still owns audit_logs_actor_user_id_fkey here
+    actor_user_id UUID NOT NULL CONSTRAINT audit_logs_actor_fk REFERENCES users(id) ON DELETE CASCADE,
+    action VARCHAR(100) NOT NULL,
+    entity_type VARCHAR(100) NOT NULL,
+    entity_id UUID NOT NULL,
+    metadata JSONB,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- ============================================
+-- PARTITION MANAGEMENT
+-- ============================================
+-- Creates the partition for the month containing p_month if it does not
+-- exist yet. Rows for that month already sitting in the default partition are
+-- moved into it first. Returns true when a partition was created.
+CREATE OR REPLACE FUNCTION create_audit_logs_partition(p_month DATE)
+RETURNS BOOLEAN AS $$
+DECLARE
+    range_start DATE := date_trunc('month', p_month)::DATE;
+    range_end DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := format('audit_logs_p%s', to_char(p_month, 'YYYYMM'));
+BEGIN
+    -- Serialise concurrent callers (several application nodes)
+    PERFORM pg_advisory_xact_lock(hashtext('audit_logs_partitions'));
+
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE audit_logs INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                   partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM audit_logs_default '
+                   || 'WHERE created_at >= %L AND created_at < %L RETURNING *) '
+                   || 'INSERT INTO %I SELECT * FROM moved',
+                   range_start, range_end, partition_name);
+    EXECUTE format('ALTER TABLE audit_logs ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, range_start, range_end);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Ensures partitions exist for every month in [p_from_month, p_to_month].
+-- Returns the number of partitions created.
+CREATE OR REPLACE FUNCTION ensure_audit_logs_partitions(p_from_month DATE, p_to_month DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    m DATE := date_trunc('month', p_from_month)::DATE;
+    created INTEGER := 0;
+BEGIN
+    WHILE m <= p_to_month LOOP
+        IF create_audit_logs_partition(m) THEN
+            created := created + 1;
+        END IF;
+        m := (m + INTERVAL '1 month')::DATE;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detaches every monthly partition that ends on or before p_before, and drops
+-- it unless p_drop is false (detached tables are kept for archiving).
+-- Returns the names of the partitions removed from audit_logs.
+CREATE OR REPLACE FUNCTION expire_audit_logs_partitions(p_before DATE, p_drop BOOLEAN)
+RETURNS SETOF TEXT AS $$
+DECLARE
+    part RECORD;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('audit_logs_partitions'));
+
+    FOR part IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'audit_logs'::regclass
+          AND c.relname ~ '^audit_logs_p[0-9]{6}$'
+          AND to_date(substring(c.relname FROM 13 FOR 6), 'YYYYMM') + INTERVAL '1 month' <= p_before
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE audit_logs DETACH PARTITION %I', part.relname);
+        IF p_drop THEN
+            EXECUTE format('DROP TABLE %I', part.relname);
+        END IF;
+        RETURN NEXT part.relname;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- One partition per month of existing data, up to three months ahead
+SELECT ensure_audit_logs_partitions(
+    LEAST(COALESCE((SELECT MIN(created_at)::DATE FROM audit_logs_legacy), CURRENT_DATE), CURRENT_DATE),
+    GREATEST(COALESCE((SELECT MAX(created_at)::DATE FROM audit_logs_legacy), CURRENT_DATE),
+             (CURRENT_DATE + INTERVAL '3 months')::DATE)
+);
+
+-- ============================================
+-- DATA
+-- ============================================
+INSERT INTO audit_logs (id, actor_user_id, action, entity_type, entity_id, metadata, created_at)
+SELECT id, actor_user_id, action, entity_type, entity_id, metadata, created_at
+FROM audit_logs_legacy;
+
+DROP TABLE audit_logs_legacy;
+
+-- ============================================
+-- KEYS AND INDEXES (propagated to every partition, present and future)
+-- ============================================
+ALTER TABLE audit_logs ADD CONSTRAINT audit_logs_pkey PRIMARY KEY (id, created_at);
+
+CREATE INDEX idx_audit_logs_actor ON audit_logs(actor_user_id);
+CREATE INDEX idx_audit_logs_entity ON audit_logs(entity_type, entity_id);
+CREATE INDEX idx_audit_logs_created_at ON audit_logs(created_at DESC);
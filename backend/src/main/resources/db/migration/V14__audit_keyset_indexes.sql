@@ -0,0 +1,20 @@
+-- ============================================
+-- V14__audit_keyset_indexes.sql
+-- Composite indexes for the audit filters, newest first. Each one matches
+-- an ORDER BY created_at DESC, id DESC keyset query exactly, so the rows
+-- come out of the index already sorted and a page stops after LIMIT rows.
+-- They replace the single-column actor and (entity_type, entity_id)
+-- indexes, which they cover as a prefix (including the FK cascade lookup).
+-- ============================================
+
+CREATE INDEX idx_audit_logs_entity_type_created
+    ON audit_logs(entity_type, created_at DESC, id DESC);
+
+CREATE INDEX idx_audit_logs_actor_created
+    ON audit_logs(actor_user_id, created_at DESC, id DESC);
+
+CREATE INDEX idx_audit_logs_entity_created
+    ON audit_logs(entity_type, entity_id, created_at DESC, id DESC);
+
+DROP INDEX idx_audit_logs_actor;
+DROP INDEX idx_audit_logs_entity;
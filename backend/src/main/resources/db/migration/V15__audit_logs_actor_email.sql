@@ -0,0 +1,20 @@
+-- ============================================
+-- V15__audit_logs_actor_email.sql
+-- Stores the actor's email on each audit entry, as it was when the action
+-- was logged, so reading the audit trail never joins users.
+--
+-- The foreign key to users is dropped as well: it deleted a user's whole
+-- audit history together with the user. actor_user_id is kept as a plain
+-- reference to the (possibly deleted) user.
+-- ============================================
+
+ALTER TABLE audit_logs ADD COLUMN actor_email VARCHAR(255);
+
+UPDATE audit_logs al
+SET actor_email = u.email
+FROM users u
+WHERE u.id = al.actor_user_id;
+
+ALTER TABLE audit_logs ALTER COLUMN actor_email SET NOT NULL;
+
+ALTER TABLE audit_logs DROP CONSTRAINT audit_logs_actor_fk;
@@ -0,0 +1,7 @@
+-- ============================================
+-- V16__audit_logs_metadata_gin.sql
+-- GIN index on the audit metadata for GET /audit-logs/search. The default
+-- jsonb_ops operator class serves containment (@>), key existence (?, ?&)
+-- and jsonpath matches (@?, @@).
+-- ============================================
+CREATE INDEX idx_audit_logs_metadata ON audit_logs USING GIN (metadata);
@@ -0,0 +1,36 @@
+-- ============================================
+-- V17__employee_link_notifications.sql
+-- Announces every change to an employee's manager, user link or active flag
+-- on the employee_links channel, so the in-memory org hierarchy of every
+-- application node stays current, whichever node (or bulk import) made the
+-- write. NOTIFY is delivered on commit, and not at all on rollback.
+-- ============================================
+
+CREATE OR REPLACE FUNCTION notify_employee_links()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('employee_links', json_build_object(
+            'employeeId', OLD.id, 'managerId', NULL, 'userId', NULL,
+            'previousUserId', OLD.user_id, 'active', FALSE)::text);
+        RETURN OLD;
+    END IF;
+
+    IF TG_OP = 'UPDATE'
+       AND NEW.manager_id IS NOT DISTINCT FROM OLD.manager_id
+       AND NEW.user_id IS NOT DISTINCT FROM OLD.user_id
+       AND NEW.active IS NOT DISTINCT FROM OLD.active THEN
+        RETURN NEW;
+    END IF;
+
+    PERFORM pg_notify('employee_links', json_build_object(
+        'employeeId', NEW.id, 'managerId', NEW.manager_id, 'userId', NEW.user_id,
+        'previousUserId', CASE WHEN TG_OP = 'UPDATE' THEN OLD.user_id END,
+        'active', NEW.active)::text);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_employees_notify_links
+    AFTER INSERT OR UPDATE OR DELETE ON employees
+    FOR EACH ROW EXECUTE FUNCTION notify_employee_links();
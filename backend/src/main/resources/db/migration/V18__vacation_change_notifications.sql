@@ -0,0 +1,48 @@
+-- ============================================
+-- V18__vacation_change_notifications.sql
+-- Announces vacation request changes on the vacation_changes channel, so the
+-- Server-Sent Events stream of every application node sees every change,
+-- whichever node made it. NOTIFY is delivered on commit, in commit order.
+--
+-- The payload carries what the stream needs to decide who may see the event
+-- (the employee's user and manager), plus change_seq for the event id, which
+-- is therefore the same on every node. Writes that change none of status,
+-- dates or reason (e.g. a decider's user being deleted) are not announced.
+-- ============================================
+
+CREATE OR REPLACE FUNCTION notify_vacation_changes()
+RETURNS TRIGGER AS $$
+DECLARE
+    event_type TEXT;
+    employee RECORD;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        event_type := 'CREATED';
+    ELSIF NEW.status IS DISTINCT FROM OLD.status THEN
+        event_type := CASE WHEN NEW.status = 'PENDING' THEN 'UPDATED' ELSE NEW.status END;
+    ELSIF (NEW.start_date, NEW.end_date, NEW.reason) IS DISTINCT FROM (OLD.start_date, OLD.end_date, OLD.reason) THEN
+        event_type := 'UPDATED';
+    ELSE
+        RETURN NULL;
+    END IF;
+
+    SELECT user_id, manager_id INTO employee FROM employees WHERE id = NEW.employee_id;
+
+    PERFORM pg_notify('vacation_changes', json_build_object(
+        'seq', NEW.change_seq,
+        'type', event_type,
+        'vacationId', NEW.id,
+        'employeeId', NEW.employee_id,
+        'employeeUserId', employee.user_id,
+        'managerId', employee.manager_id,
+        'status', NEW.status,
+        'startDate', NEW.start_date,
+        'endDate', NEW.end_date,
+        'occurredAt', LOCALTIMESTAMP)::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_vacation_requests_notify
+    AFTER INSERT OR UPDATE ON vacation_requests
+    FOR EACH ROW EXECUTE FUNCTION notify_vacation_changes();
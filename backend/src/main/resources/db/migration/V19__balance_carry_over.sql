@@ -0,0 +1,8 @@
+-- ============================================
+-- V19__balance_carry_over.sql
+-- Days carried over from the previous year, included in entitled_days and remaining_days.
+-- Set on balances created by the rollover, whose carry-over is provisional until the previous
+-- year has closed and is then recomputed from its final remaining days. NULL on balances
+-- created otherwise, which the recomputation leaves alone.
+-- ============================================
+ALTER TABLE vacation_balances ADD COLUMN carry_over_days INTEGER;
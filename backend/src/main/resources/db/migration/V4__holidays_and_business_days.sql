@@ -0,0 +1,25 @@
+-- ============================================
+-- V4__holidays_and_business_days.sql
+-- Public holidays and business-day counting for vacation requests
+-- ============================================
+
+-- ============================================
+-- HOLIDAYS TABLE
+-- ============================================
+CREATE TABLE holidays (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    holiday_date DATE NOT NULL UNIQUE,
+    name VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- ============================================
+-- VACATION_REQUESTS.business_days
+-- Days charged against the balance. Existing rows keep the calendar-day
+-- count they were approved with, so cancelling them restores the same amount.
+-- ============================================
+ALTER TABLE vacation_requests ADD COLUMN business_days INTEGER;
+
+UPDATE vacation_requests SET business_days = (end_date - start_date) + 1;
+
+ALTER TABLE vacation_requests ALTER COLUMN business_days SET NOT NULL;
@@ -0,0 +1,16 @@
+-- ============================================
+-- V5__pending_queue_indexes.sql
+-- Partial indexes for the pending-approval queue (/vacations/pending)
+-- Only PENDING rows are indexed, so the indexes stay small no matter
+-- how much decided history accumulates.
+-- ============================================
+
+-- Manager queue: team members (employee_id) in request order
+CREATE INDEX idx_vacation_requests_pending_employee
+    ON vacation_requests(employee_id, requested_at)
+    WHERE status = 'PENDING';
+
+-- Admin queue: all pending requests in request order (keyset on requested_at, id)
+CREATE INDEX idx_vacation_requests_pending_requested_at
+    ON vacation_requests(requested_at, id)
+    WHERE status = 'PENDING';
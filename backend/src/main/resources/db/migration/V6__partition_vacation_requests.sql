@@ -0,0 +1,122 @@
+-- ============================================
+-- V6__partition_vacation_requests.sql
+-- Converts vacation_requests into a table range-partitioned by start_date year.
+--
+-- * One partition per year (vacation_requests_y2026, ...) plus a default
+--   partition that catches anything outside the created ranges.
+-- * The primary key must contain the partition key, so it becomes (id, start_date).
+-- * A request may span at most 365 days after its start date. Queries use
+--   that bound to put a lower limit on start_date, which lets PostgreSQL
+--   prune partitions for overlap and calendar lookups.
+-- * Future partitions are created by create_vacation_requests_partition(),
+--   called from the application's partition maintenance job.
+-- ============================================
+
+ALTER TABLE vacation_requests RENAME TO vacation_requests_legacy;
+
+CREATE TABLE vacation_requests (
+    id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    employee_id UUID NOT NULL REFERENCES employees(id) ON DELETE CASCADE,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    business_days INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED', 'CANCELLED')),
+    requested_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    decision_at TIMESTAMP,
+    decided_by_user_id UUID REFERENCES users(id) ON DELETE SET NULL,
+    reason VARCHAR(500),
+    manager_comment VARCHAR(500),
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT check_dates CHECK (end_date >= start_date),
+    CONSTRAINT check_span CHECK (end_date - start_date <= 365)
+) PARTITION BY RANGE (start_date);
+
+CREATE TABLE vacation_requests_default PARTITION OF vacation_requests DEFAULT;
+
+-- ============================================
+-- PARTITION MANAGEMENT
+-- ============================================
+-- Creates the partition for one year if it does not exist yet. Rows for that
+-- year already sitting in the default partition are moved into it first.
+-- Returns true when a partition was created.
+CREATE OR REPLACE FUNCTION create_vacation_requests_partition(p_year INTEGER)
+RETURNS BOOLEAN AS $$
+DECLARE
+    partition_name TEXT := format('vacation_requests_y%s', p_year);
+    range_start DATE := make_date(p_year, 1, 1);
+    range_end DATE := make_date(p_year + 1, 1, 1);
+BEGIN
+    -- Serialise concurrent callers (several application nodes)
+    PERFORM pg_advisory_xact_lock(hashtext('vacation_requests_partitions'));
+
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE vacation_requests INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                   partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM vacation_requests_default '
+                   || 'WHERE start_date >= %L AND start_date < %L RETURNING *) '
+                   || 'INSERT INTO %I SELECT * FROM moved',
+                   range_start, range_end, partition_name);
+    EXECUTE format('ALTER TABLE vacation_requests ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, range_start, range_end);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Ensures partitions exist for every year in [p_from_year, p_to_year].
+-- Returns the number of partitions created.
+CREATE OR REPLACE FUNCTION ensure_vacation_requests_partitions(p_from_year INTEGER, p_to_year INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    y INTEGER;
+    created INTEGER := 0;
+BEGIN
+    FOR y IN p_from_year..p_to_year LOOP
+        IF create_vacation_requests_partition(y) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- One partition per year of existing data, up to two years ahead
+SELECT ensure_vacation_requests_partitions(
+    LEAST(
+        COALESCE((SELECT MIN(EXTRACT(YEAR FROM start_date))::INTEGER FROM vacation_requests_legacy),
+                 EXTRACT(YEAR FROM CURRENT_DATE)::INTEGER),
+        EXTRACT(YEAR FROM CURRENT_DATE)::INTEGER),
+    GREATEST(
+        COALESCE((SELECT MAX(EXTRACT(YEAR FROM start_date))::INTEGER FROM vacation_requests_legacy), 0),
+        EXTRACT(YEAR FROM CURRENT_DATE)::INTEGER + 2)
+);
+
+-- ============================================
+-- DATA
+-- ============================================
+INSERT INTO vacation_requests (id, employee_id, start_date, end_date, business_days, status, requested_at,
+                               decision_at, decided_by_user_id, reason, manager_comment, version)
+SELECT id, employee_id, start_date, end_date, business_days, status, requested_at,
+       decision_at, decided_by_user_id, reason, manager_comment, version
+FROM vacation_requests_legacy;
+
+DROP TABLE vacation_requests_legacy;
+
+-- ============================================
+-- KEYS AND INDEXES (propagated to every partition, present and future)
+-- ============================================
+ALTER TABLE vacation_requests ADD CONSTRAINT vacation_requests_pkey PRIMARY KEY (id, start_date);
+
+CREATE INDEX idx_vacation_requests_employee_dates ON vacation_requests(employee_id, start_date, end_date);
+CREATE INDEX idx_vacation_requests_status ON vacation_requests(status);
+CREATE INDEX idx_vacation_requests_dates ON vacation_requests(start_date, end_date);
+
+CREATE INDEX idx_vacation_requests_pending_employee
+    ON vacation_requests(employee_id, requested_at)
+    WHERE status = 'PENDING';
+
+CREATE INDEX idx_vacation_requests_pending_requested_at
+    ON vacation_requests(requested_at, id)
+    WHERE status = 'PENDING';
@@ -0,0 +1,5 @@
+-- ============================================
+-- V8__vacation_balance_version.sql
+-- Optimistic-lock version for vacation balances, also used to build ETags
+-- ============================================
+ALTER TABLE vacation_balances ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
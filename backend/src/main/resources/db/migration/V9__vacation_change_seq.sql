@@ -0,0 +1,31 @@
+-- ============================================
+-- V9__vacation_change_seq.sql
+-- Change sequence for the delta sync API (GET /vacations/changes).
+--
+-- change_seq holds the id of the transaction that last wrote the row
+-- (pg_current_xact_id(), a 64-bit counter that never wraps). Unlike a plain
+-- sequence, it lets readers tell which changes are final: every transaction
+-- below pg_snapshot_xmin() of the current snapshot has finished, so rows with
+-- a smaller change_seq can no longer be joined by a late commit with a lower
+-- value. The API only returns those rows, which keeps the cursor gap-free.
+-- ============================================
+
+ALTER TABLE vacation_requests ADD COLUMN change_seq BIGINT;
+
+UPDATE vacation_requests SET change_seq = pg_current_xact_id()::text::bigint;
+
+ALTER TABLE vacation_requests ALTER COLUMN change_seq SET NOT NULL;
+
+CREATE OR REPLACE FUNCTION set_vacation_requests_change_seq()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_seq := pg_current_xact_id()::text::bigint;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_vacation_requests_change_seq
+    BEFORE INSERT OR UPDATE ON vacation_requests
+    FOR EACH ROW EXECUTE FUNCTION set_vacation_requests_change_seq();
+
+CREATE INDEX idx_vacation_requests_change_seq ON vacation_requests(change_seq, id);
@@ -0,0 +1,52 @@
+package com.eltonsantos.backend.config;
+
+import com.eltonsantos.backend.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.context.RetryContextSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimisticLockRetryListenerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OptimisticLockRetryListener listener = new OptimisticLockRetryListener(meterRegistry);
+
+    @Test
+    @DisplayName("Should ignore failures that are not optimistic-lock conflicts")
+    void should_NotCount_When_FailureIsNotConflict() {
+        RetryContextSupport context = context();
+        BusinessException invalid = new BusinessException("Only pending requests can be approved");
+
+        context.registerThrowable(invalid);
+        listener.onError(context, null, invalid);
+        listener.close(context, null, invalid);
+
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should count conflicts and tag how the retried call ended")
+    void should_CountConflictAndOutcome_When_Retried() {
+        RetryContextSupport context = context();
+        OptimisticLockingFailureException conflict = new OptimisticLockingFailureException("stale");
+
+        context.registerThrowable(conflict);
+        listener.onError(context, null, conflict);
+        listener.close(context, null, null);
+
+        assertEquals(1, meterRegistry.get("vacation.optimistic_lock.conflicts").tag("operation", "vacation.approve")
+                .counter().count());
+        assertEquals(1, meterRegistry.get("vacation.optimistic_lock.retries").tag("outcome", "recovered")
+                .counter().count());
+    }
+
+    private static RetryContextSupport context() {
+        RetryContextSupport context = new RetryContextSupport(null);
+        context.setAttribute(RetryContext.NAME, "vacation.approve");
+        return context;
+    }
+}
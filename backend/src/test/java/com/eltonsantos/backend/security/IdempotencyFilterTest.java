@@ -0,0 +1,188 @@
+package com.eltonsantos.backend.security;
+
+import com.eltonsantos.backend.entity.User;
+import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.repository.IdempotencyKeyRepository;
+import com.eltonsantos.backend.repository.IdempotencyKeyRepository.StoredKey;
+import com.eltonsantos.backend.service.IdempotencyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"employeeId\":\"3f2b\",\"startDate\":\"2026-11-02\",\"endDate\":\"2026-11-06\"}";
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private final UUID userId = UUID.randomUUID();
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyFilter filter;
+
+    /**
+     * Plays the controller: reads the body with a {@link ReadListener}, as asynchronous
+     * request handling does, and answers 201 with it.
+     */
+    private final FilterChain controller = (request, response) -> {
+        executions.incrementAndGet();
+        ServletInputStream in = request.getInputStream();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                byte[] chunk = new byte[16];
+                int read;
+                while (in.isReady() && (read = in.read(chunk, 0, chunk.length)) != -1) {
+                    body.write(chunk, 0, read);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() throws IOException {
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                ((HttpServletResponse) response).setStatus(201);
+                response.getOutputStream().write(body.toByteArray());
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+            }
+        });
+    };
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(
+                new IdempotencyService(idempotencyKeyRepository, Duration.ofHours(24), Duration.ofMinutes(5), 100), new ObjectMapper().findAndRegisterModules());
+        CustomUserDetails user = new CustomUserDetails(
+                User.builder().id(userId).email("ana@example.com").role(Role.COLLABORATOR).build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should replay the stored response when the same key and body are sent again")
+    void should_ReplayResponse_When_SameKeyAndBody() throws Exception {
+        when(idempotencyKeyRepository.tryReserve(eq(userId), eq("key-1"), anyString(), any())).thenReturn(true);
+
+        MockHttpServletResponse first = send("key-1", BODY);
+        MockHttpServletResponse second = send("key-1", BODY);
+
+        assertEquals(201, first.getStatus());
+        assertEquals(BODY, first.getContentAsString());
+        assertNull(first.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(201, second.getStatus());
+        assertEquals(BODY, second.getContentAsString());
+        assertEquals("true", second.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(1, executions.get());
+        verify(idempotencyKeyRepository).complete(eq(userId), eq("key-1"), eq(201), eq(MediaType.APPLICATION_JSON_VALUE),
+                eq(BODY), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different body with 422")
+    void should_RejectKey_When_ReusedWithDifferentBody() throws Exception {
+        when(idempotencyKeyRepository.tryReserve(eq(userId), eq("key-1"), anyString(), any())).thenReturn(true);
+
+        send("key-1", BODY);
+        MockHttpServletResponse conflict = send("key-1", BODY.replace("2026-11-06", "2026-11-13"));
+
+        assertEquals(422, conflict.getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should answer 409 to a duplicate sent while the first request is still running")
+    void should_RejectDuplicate_When_FirstStillInFlight() throws Exception {
+        String[] reservedHash = new String[1];
+        when(idempotencyKeyRepository.tryReserve(eq(userId), eq("key-1"), anyString(), any())).thenAnswer(invocation -> {
+            if (reservedHash[0] != null) {
+                return false;
+            }
+            reservedHash[0] = invocation.getArgument(2);
+            return true;
+        });
+        when(idempotencyKeyRepository.find(userId, "key-1")).thenAnswer(invocation ->
+                Optional.of(new StoredKey(reservedHash[0], false, null, null, null, LocalDateTime.now().plusHours(1))));
+
+        MockHttpServletResponse[] duplicate = new MockHttpServletResponse[1];
+        FilterChain slowController = (request, response) -> {
+            // The client retries before the first request has answered
+            duplicate[0] = send("key-1", BODY);
+            controller.doFilter(request, response);
+        };
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", BODY), first, slowController);
+
+        assertEquals(201, first.getStatus());
+        assertEquals(409, duplicate[0].getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should free the key when the request fails with a server error")
+    void should_ReleaseKey_When_ServerError() throws Exception {
+        when(idempotencyKeyRepository.tryReserve(eq(userId), eq("key-1"), anyString(), any())).thenReturn(true);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", BODY), response,
+                (req, res) -> ((HttpServletResponse) res).setStatus(503));
+
+        assertEquals(503, response.getStatus());
+        verify(idempotencyKeyRepository).delete(userId, "key-1");
+        verify(idempotencyKeyRepository, never()).complete(any(), any(), anyInt(), any(), any(), any());
+    }
+
+    private MockHttpServletResponse send(String key, String body) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(key, body), response, controller);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/vacations");
+        request.setServletPath("/vacations");
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,95 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.enums.ExportFormat;
+import com.eltonsantos.backend.exception.BusinessException;
+import com.eltonsantos.backend.repository.AuditExportRepository;
+import com.eltonsantos.backend.repository.AuditExportRepository.AuditExportRow;
+import com.eltonsantos.backend.repository.AuditExportRepository.RowWriter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditExportServiceTest {
+
+    @Mock
+    private AuditExportRepository auditExportRepository;
+
+    @Mock
+    private AuthService authService;
+
+    private AuditExportService auditExportService;
+
+    private final LocalDateTime from = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private final LocalDateTime to = LocalDateTime.of(2026, 4, 1, 0, 0);
+    private final AuditExportRow row = new AuditExportRow(UUID.randomUUID(), UUID.randomUUID(), "admin@vacation.com",
+            "UPDATE_USER", "User", UUID.randomUUID(), "{\"email\": \"ana@empresa.com\", \"role\": \"MANAGER\"}",
+            LocalDateTime.of(2026, 2, 10, 8, 15));
+
+    @BeforeEach
+    void setUp() {
+        auditExportService = new AuditExportService(auditExportRepository, authService, new ObjectMapper(), 366);
+    }
+
+    @Test
+    @DisplayName("Should stream one JSON object per line with the stored metadata as is")
+    void should_WriteNdjson_When_ExportingRange() throws Exception {
+        doAnswer(i -> {
+            RowWriter writer = i.getArgument(2);
+            writer.write(row);
+            writer.write(row);
+            return null;
+        }).when(auditExportRepository).forEachInRange(eq(from), eq(to), any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        auditExportService.export(from, to, ExportFormat.NDJSON).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertEquals("admin@vacation.com", first.get("actorEmail").asText());
+        assertEquals("MANAGER", first.get("metadata").get("role").asText());
+        assertEquals("2026-02-10T08:15", first.get("createdAt").asText());
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header and quote the metadata column")
+    void should_WriteCsv_When_ExportingRange() throws Exception {
+        doAnswer(i -> {
+            i.<RowWriter>getArgument(2).write(row);
+            return null;
+        }).when(auditExportRepository).forEachInRange(eq(from), eq(to), any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        auditExportService.export(from, to, ExportFormat.CSV).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertEquals("id,created_at,actor_user_id,actor_email,action,entity_type,entity_id,metadata", lines[0]);
+        assertTrue(lines[1].endsWith(",\"{\"\"email\"\": \"\"ana@empresa.com\"\", \"\"role\"\": \"\"MANAGER\"\"}\""));
+    }
+
+    @Test
+    @DisplayName("Should reject ranges that are inverted or too long")
+    void should_ThrowException_When_RangeInvalid() {
+        assertThrows(BusinessException.class, () -> auditExportService.export(to, from, ExportFormat.CSV));
+        assertThrows(BusinessException.class,
+                () -> auditExportService.export(from, from.plusDays(400), ExportFormat.CSV));
+        verifyNoInteractions(auditExportRepository);
+    }
+}
@@ -0,0 +1,117 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.repository.AuditLogBatchRepository.NewAuditLog;
+import com.eltonsantos.backend.service.AuditJournal.Batch;
+import com.eltonsantos.backend.service.AuditJournal.Position;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditJournalTest {
+
+    @TempDir
+    private Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private AuditJournal journal;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Should replay only the entries after the checkpoint when reopened")
+    void should_ReplayUnshippedEntries_When_Reopened() throws IOException {
+        journal = open(4096);
+        NewAuditLog first = entry("CREATE_USER");
+        NewAuditLog second = entry("UPDATE_USER");
+        NewAuditLog third = entry("DELETE_USER");
+        journal.append(first);
+        journal.append(second);
+
+        Batch shipped = journal.read(journal.checkpoint(), 10);
+        assertEquals(List.of(first, second), shipped.entries());
+        journal.commit(shipped.next());
+        journal.append(third);
+        journal.close();
+
+        journal = open(4096);
+        Batch replayed = journal.read(journal.checkpoint(), 10);
+        assertEquals(List.of(third), replayed.entries());
+    }
+
+    @Test
+    @DisplayName("Should move to a new segment when full and delete segments once shipped")
+    void should_RollAndDeleteSegments_When_Shipped() throws IOException {
+        journal = open(600);
+        for (int i = 0; i < 10; i++) {
+            journal.append(entry("ACTION_" + i));
+        }
+        assertTrue(segmentCount() > 1);
+
+        Batch batch = journal.read(journal.checkpoint(), 100);
+        assertEquals(10, batch.entries().size());
+        assertEquals("ACTION_9", batch.entries().get(9).action());
+        journal.commit(batch.next());
+
+        assertEquals(1, segmentCount());
+        assertTrue(journal.read(batch.next(), 100).entries().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should stop at a torn record and keep appending after a restart")
+    void should_IgnoreTornRecord_When_Recovering() throws IOException {
+        journal = open(4096);
+        NewAuditLog kept = entry("CREATE_USER");
+        journal.append(kept);
+        journal.append(entry("UPDATE_USER"));
+        Batch written = journal.read(new Position(0, 0), 10);
+        journal.close();
+
+        // Corrupt the payload of the second record, as if the crash happened while writing it
+        int secondOffset = AuditJournal.HEADER_BYTES + objectMapper.writeValueAsBytes(kept).length;
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("%020d.seg".formatted(0)).toFile(), "rw")) {
+            file.seek(secondOffset + AuditJournal.HEADER_BYTES + 2);
+            file.write('#');
+        }
+
+        journal = open(4096);
+        NewAuditLog next = entry("DELETE_USER");
+        journal.append(next);
+        Batch replayed = journal.read(journal.checkpoint(), 10);
+
+        assertEquals(2, written.entries().size());
+        assertEquals(List.of(kept, next), replayed.entries());
+    }
+
+    private AuditJournal open(int segmentBytes) throws IOException {
+        AuditJournal opened = new AuditJournal(objectMapper, directory.toString(), segmentBytes);
+        opened.open();
+        return opened;
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(".seg")).count();
+        }
+    }
+
+    private static NewAuditLog entry(String action) {
+        return new NewAuditLog(UUID.randomUUID(), UUID.randomUUID(), "admin@vacation.com", action, "User",
+                UUID.randomUUID(), "{\"email\":\"ana@example.com\"}", LocalDateTime.of(2026, 10, 19, 9, 30));
+    }
+}
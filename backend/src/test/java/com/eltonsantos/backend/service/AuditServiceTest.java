@@ -0,0 +1,156 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.dto.response.AuditLogResponse;
+import com.eltonsantos.backend.dto.response.KeysetPageResponse;
+import com.eltonsantos.backend.entity.AuditLog;
+import com.eltonsantos.backend.entity.User;
+import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.exception.BusinessException;
+import com.eltonsantos.backend.repository.AuditLogBatchRepository;
+import com.eltonsantos.backend.repository.AuditLogBatchRepository.NewAuditLog;
+import com.eltonsantos.backend.repository.AuditLogRepository;
+import com.eltonsantos.backend.repository.AuditSearchRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditServiceTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @Mock
+    private AuditSearchRepository auditSearchRepository;
+
+    @Mock
+    private AuditLogBatchRepository auditLogBatchRepository;
+
+    @Mock
+    private AuditJournal auditJournal;
+
+    private AuditService auditService;
+
+    private final User actor = User.builder().id(UUID.randomUUID()).email("admin@vacation.com").role(Role.ADMIN).build();
+
+    @BeforeEach
+    void setUp() {
+        auditService = new AuditService(auditLogRepository, auditSearchRepository, auditLogBatchRepository, auditJournal,
+                new ObjectMapper(), 90);
+    }
+
+    @Test
+    @DisplayName("Should append the entry to the journal only after the transaction commits")
+    void should_AppendAfterCommit_When_LoggedInTransaction() throws IOException {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            auditService.log(actor, "UPDATE_USER", "User", actor.getId(), Map.of("role", "ADMIN"));
+            verifyNoInteractions(auditJournal);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        ArgumentCaptor<NewAuditLog> captor = ArgumentCaptor.forClass(NewAuditLog.class);
+        verify(auditJournal).append(captor.capture());
+        assertEquals(actor.getId(), captor.getValue().actorUserId());
+        assertEquals("admin@vacation.com", captor.getValue().actorEmail());
+        assertEquals("{\"role\":\"ADMIN\"}", captor.getValue().metadataJson());
+    }
+
+    @Test
+    @DisplayName("Should insert the entry directly when the journal cannot take it")
+    void should_InsertDirectly_When_JournalFails() throws IOException {
+        doThrow(new IOException("Audit journal is closed")).when(auditJournal).append(any());
+
+        auditService.log(actor, "DELETE_USER", "User", actor.getId(), null);
+
+        verify(auditLogBatchRepository).insertAll(argThat(entries -> entries.size() == 1
+                && entries.get(0).action().equals("DELETE_USER") && entries.get(0).metadataJson() == null));
+    }
+
+    @Test
+    @DisplayName("Should fetch one extra row and continue after the last row of the page")
+    void should_ReturnKeysetPages_When_ListingByActor() {
+        AuditLog newest = entry(LocalDateTime.of(2026, 10, 3, 9, 0));
+        AuditLog middle = entry(LocalDateTime.of(2026, 10, 2, 9, 0));
+        AuditLog oldest = entry(LocalDateTime.of(2026, 10, 1, 9, 0));
+        when(auditLogRepository.findPageByActorId(actor.getId(), Limit.of(3))).thenReturn(List.of(newest, middle, oldest));
+        when(auditLogRepository.findPageByActorIdBefore(actor.getId(), middle.getCreatedAt(), middle.getId(), Limit.of(3)))
+                .thenReturn(List.of(oldest));
+
+        KeysetPageResponse<AuditLogResponse> first = auditService.findPageByActor(actor.getId(), null, 2);
+        KeysetPageResponse<AuditLogResponse> second = auditService.findPageByActor(actor.getId(), first.nextCursor(), 2);
+
+        assertEquals(List.of(newest.getId(), middle.getId()), first.content().stream().map(AuditLogResponse::id).toList());
+        assertTrue(first.hasNext());
+        assertEquals(List.of(oldest.getId()), second.content().stream().map(AuditLogResponse::id).toList());
+        assertFalse(second.hasNext());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject a time range that ends before it starts")
+    void should_ThrowException_When_RangeInverted() {
+        LocalDateTime from = LocalDateTime.of(2026, 10, 2, 0, 0);
+
+        assertThrows(BusinessException.class,
+                () -> auditService.findAll(from, from.minusDays(1), Pageable.unpaged()));
+        verify(auditLogRepository, never()).findByCreatedAtRange(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should pass normalized metadata filters to the search and reject non-object JSON")
+    void should_SearchMetadata_When_FiltersGiven() {
+        when(auditSearchRepository.search(any(), isNull(), eq(21))).thenReturn(List.of());
+
+        auditService.search("VACATION_APPROVED", " ", "{ \"days\" : 12 }", List.of("days", ""), "$.days > 10",
+                null, null, null, 20);
+
+        ArgumentCaptor<AuditSearchRepository.Criteria> criteria = ArgumentCaptor.forClass(AuditSearchRepository.Criteria.class);
+        verify(auditSearchRepository).search(criteria.capture(), isNull(), eq(21));
+        assertEquals("VACATION_APPROVED", criteria.getValue().action());
+        assertNull(criteria.getValue().entityType());
+        assertEquals("{\"days\":12}", criteria.getValue().containsJson());
+        assertEquals(List.of("days"), criteria.getValue().keys());
+        assertTrue(criteria.getValue().from().isBefore(LocalDateTime.now().minusDays(89)));
+
+        assertThrows(BusinessException.class,
+                () -> auditService.search(null, null, "[1, 2]", null, null, null, null, null, 20));
+    }
+
+    private AuditLog entry(LocalDateTime createdAt) {
+        return AuditLog.builder()
+                .id(UUID.randomUUID())
+                .actorUserId(actor.getId())
+                .actorEmail(actor.getEmail())
+                .action("UPDATE_USER")
+                .entityType("User")
+                .entityId(UUID.randomUUID())
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.repository.AuditLogBatchRepository;
+import com.eltonsantos.backend.repository.AuditLogBatchRepository.NewAuditLog;
+import com.eltonsantos.backend.service.AuditJournal.Batch;
+import com.eltonsantos.backend.service.AuditJournal.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditShipperTest {
+
+    @Mock
+    private AuditJournal auditJournal;
+
+    @Mock
+    private AuditLogBatchRepository auditLogBatchRepository;
+
+    private AuditShipper auditShipper;
+
+    private final Position start = new Position(0, 0);
+    private final Position end = new Position(0, 900);
+    private final NewAuditLog first = entry("CREATE_USER");
+    private final NewAuditLog poison = entry("UPDATE_USER");
+    private final NewAuditLog last = entry("DELETE_USER");
+
+    @BeforeEach
+    void setUp() {
+        auditShipper = new AuditShipper(auditJournal, auditLogBatchRepository, 500);
+        when(auditJournal.checkpoint()).thenReturn(start);
+        when(auditJournal.read(start, 500)).thenReturn(new Batch(List.of(first, poison, last), end));
+    }
+
+    @Test
+    @DisplayName("Should keep the checkpoint when the database is unavailable and ship on the next run")
+    void should_RetryLater_When_FailureIsTransient() throws IOException {
+        TransientDataAccessResourceException down = new TransientDataAccessResourceException("connection refused");
+        doThrow(down).doThrow(down).doNothing().when(auditLogBatchRepository).insertAll(any());
+        when(auditJournal.read(end, 500)).thenReturn(new Batch(List.of(), end));
+
+        auditShipper.ship();
+        verify(auditJournal, never()).commit(any());
+
+        auditShipper.ship();
+        verify(auditLogBatchRepository, times(2)).insertAll(List.of(first, poison, last));
+        verify(auditJournal).commit(end);
+        verify(auditJournal, never()).deadLetter(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should set aside an entry the database rejects and ship the ones after it")
+    void should_DeadLetterEntry_When_RowIsRejected() throws IOException {
+        DataIntegrityViolationException rejected = new DataIntegrityViolationException("value too long");
+        doAnswer(invocation -> {
+            if (invocation.<List<NewAuditLog>>getArgument(0).contains(poison)) {
+                throw rejected;
+            }
+            return null;
+        }).when(auditLogBatchRepository).insertAll(any());
+        when(auditJournal.read(end, 500)).thenReturn(new Batch(List.of(), end));
+
+        auditShipper.ship();
+
+        verify(auditLogBatchRepository).insertAll(List.of(first));
+        verify(auditLogBatchRepository).insertAll(List.of(last));
+        verify(auditJournal).deadLetter(eq(poison), eq("value too long"));
+        verify(auditJournal).commit(end);
+    }
+
+    private static NewAuditLog entry(String action) {
+        return new NewAuditLog(UUID.randomUUID(), UUID.randomUUID(), "admin@vacation.com", action, "User",
+                UUID.randomUUID(), null, LocalDateTime.of(2026, 10, 19, 9, 30));
+    }
+}
@@ -4,8 +4,11 @@ import com.eltonsantos.backend.dto.request.ChangePasswordRequest;
 import com.eltonsantos.backend.dto.request.LoginRequest;
 import com.eltonsantos.backend.dto.request.SignUpRequest;
 import com.eltonsantos.backend.dto.response.AuthResponse;
+import com.eltonsantos.backend.dto.response.UserResponse;
+import com.eltonsantos.backend.entity.Employee;
 import com.eltonsantos.backend.entity.User;
 import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.event.UserChangedEvent;
 import com.eltonsantos.backend.exception.BusinessException;
 import com.eltonsantos.backend.repository.EmployeeRepository;
 import com.eltonsantos.backend.repository.UserRepository;
@@ -19,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -52,6 +56,12 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmployeeIdCache employeeIdCache;
+
     @InjectMocks
     private AuthService authService;
 
@@ -108,6 +118,32 @@ class AuthServiceTest {
         verify(userRepository, never()).save(any(User.class));
     }
 
+    @Test
+    @DisplayName("Should publish a user change when a manager signs up, so the manager list is refreshed")
+    void should_PublishUserChange_When_ManagerSignsUp() {
+        SignUpRequest request = new SignUpRequest(
+                "Maria Souza",
+                "maria@example.com",
+                "password123",
+                Role.MANAGER
+        );
+        UUID managerId = UUID.randomUUID();
+
+        when(passwordEncoder.encode("password123")).thenReturn("hashedPassword");
+        when(userRepository.save(any(User.class))).thenAnswer(i -> {
+            User saved = i.getArgument(0);
+            saved.setId(managerId);
+            return saved;
+        });
+        when(employeeRepository.save(any(Employee.class))).thenAnswer(i -> i.getArgument(0));
+        when(jwtTokenProvider.generateToken(any())).thenReturn("jwt-token");
+
+        AuthResponse response = authService.signUp(request);
+
+        assertEquals(Role.MANAGER, response.role());
+        verify(eventPublisher).publishEvent(new UserChangedEvent(managerId));
+    }
+
     @Test
     @DisplayName("Should throw BusinessException when email already exists")
     void should_ThrowException_When_EmailAlreadyExists() {
@@ -148,4 +184,20 @@ class AuthServiceTest {
         verify(userRepository).save(testUser);
         assertEquals("newHashedPassword", testUser.getPasswordHash());
     }
+
+    @Test
+    @DisplayName("Should resolve the current user's employee from the org hierarchy")
+    void should_ResolveEmployeeFromHierarchy_When_GettingCurrentUser() {
+        UUID employeeId = UUID.randomUUID();
+        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+        when(employeeIdCache.findEmployeeIdByUserId(userId)).thenReturn(Optional.of(employeeId));
+
+        AuthService spyService = spy(authService);
+        doReturn(userId).when(spyService).getCurrentUserId();
+
+        UserResponse response = spyService.getCurrentUser();
+
+        assertEquals(employeeId, response.employeeId());
+        verifyNoInteractions(employeeRepository);
+    }
 }
@@ -0,0 +1,80 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.dto.response.BalanceReconciliationResponse;
+import com.eltonsantos.backend.entity.User;
+import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.repository.BalanceReconciliationRepository;
+import com.eltonsantos.backend.repository.BalanceReconciliationRepository.Drift;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceReconciliationServiceTest {
+
+    @Mock
+    private BalanceReconciliationRepository reconciliationRepository;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private AuthService authService;
+
+    private BalanceReconciliationService reconciliationService;
+
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+    private final UUID third = UUID.randomUUID();
+    private Drift drift;
+
+    @BeforeEach
+    void setUp() {
+        reconciliationService = new BalanceReconciliationService(
+                reconciliationRepository, auditService, authService, new SimpleMeterRegistry(), 2, 2, false);
+        drift = new Drift(UUID.randomUUID(), third, 2026, 12, 10);
+        when(reconciliationRepository.findAllEmployeeIds()).thenReturn(List.of(first, second, third));
+        when(reconciliationRepository.findDrift(List.of(first, second))).thenReturn(List.of());
+        when(reconciliationRepository.findDrift(List.of(third))).thenReturn(List.of(drift));
+    }
+
+    @Test
+    @DisplayName("Should report drift across all chunks without changing balances on a dry run")
+    void should_ReportDrift_When_DryRun() {
+        BalanceReconciliationResponse report = reconciliationService.reconcile(true);
+
+        assertTrue(report.dryRun());
+        assertEquals(3, report.employeesScanned());
+        assertEquals(1, report.driftedBalances());
+        assertEquals(0, report.correctedBalances());
+        assertEquals(10, report.drifts().get(0).expectedUsedDays());
+        verify(reconciliationRepository, never()).applyCorrections(any());
+        verifyNoInteractions(auditService);
+    }
+
+    @Test
+    @DisplayName("Should apply and audit corrections when not a dry run")
+    void should_ApplyCorrections_When_NotDryRun() {
+        User admin = User.builder().id(UUID.randomUUID()).email("admin@example.com")
+                .passwordHash("hash").role(Role.ADMIN).build();
+        when(authService.getCurrentUserEntity()).thenReturn(admin);
+        when(reconciliationRepository.applyCorrections(List.of(drift))).thenReturn(List.of(drift));
+
+        BalanceReconciliationResponse report = reconciliationService.reconcile(false);
+
+        assertEquals(1, report.correctedBalances());
+        verify(auditService).log(eq(admin), eq("RECONCILE_BALANCE"), eq("VacationBalance"), eq(drift.balanceId()), any());
+    }
+}
@@ -0,0 +1,106 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.dto.response.BalanceRolloverStatusResponse;
+import com.eltonsantos.backend.dto.response.BalanceRolloverStatusResponse.State;
+import com.eltonsantos.backend.repository.BalanceRolloverRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Year;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceRolloverServiceTest {
+
+    @Mock
+    private BalanceRolloverRepository balanceRolloverRepository;
+
+    private BalanceRolloverService balanceRolloverService;
+
+    @BeforeEach
+    void setUp() {
+        balanceRolloverService = new BalanceRolloverService(balanceRolloverRepository, 22, 5, 2);
+    }
+
+    @Test
+    @DisplayName("Should create balances chunk by chunk and report progress")
+    void should_ProcessAllChunks_When_RolloverRuns() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        when(balanceRolloverRepository.countActiveEmployees()).thenReturn(3L);
+        when(balanceRolloverRepository.findActiveEmployeeIdsAfter(null, 2)).thenReturn(List.of(a, b));
+        when(balanceRolloverRepository.findActiveEmployeeIdsAfter(b, 2)).thenReturn(List.of(c));
+        when(balanceRolloverRepository.findActiveEmployeeIdsAfter(c, 2)).thenReturn(List.of());
+        when(balanceRolloverRepository.createBalances(List.of(a, b), 2027, 22, 5)).thenReturn(2);
+        // Already rolled over on a previous run
+        when(balanceRolloverRepository.createBalances(List.of(c), 2027, 22, 5)).thenReturn(0);
+
+        balanceRolloverService.rollover(2027);
+
+        BalanceRolloverStatusResponse status = balanceRolloverService.getStatus();
+        assertEquals(State.COMPLETED, status.state());
+        assertEquals(2027, status.year());
+        assertEquals(3, status.processedEmployees());
+        assertEquals(2, status.createdBalances());
+        assertNotNull(status.finishedAt());
+    }
+
+    @Test
+    @DisplayName("Should recompute the carry-over once the previous year has closed")
+    void should_SettleCarryOver_When_PreviousYearClosed() {
+        int year = Year.now().getValue();
+        UUID a = UUID.randomUUID();
+        when(balanceRolloverRepository.countActiveEmployees()).thenReturn(1L);
+        when(balanceRolloverRepository.findActiveEmployeeIdsAfter(null, 2)).thenReturn(List.of(a));
+        when(balanceRolloverRepository.findActiveEmployeeIdsAfter(a, 2)).thenReturn(List.of());
+        when(balanceRolloverRepository.settleCarryOver(List.of(a), year, 5)).thenReturn(1);
+
+        balanceRolloverService.rollover(year);
+
+        assertEquals(1, balanceRolloverService.getStatus().adjustedBalances());
+        verify(balanceRolloverRepository).createBalances(List.of(a), year, 22, 5);
+    }
+
+    @Test
+    @DisplayName("Should keep the carry-over provisional while the previous year is still open")
+    void should_NotSettleCarryOver_When_PreviousYearOpen() {
+        int year = Year.now().getValue() + 1;
+        UUID a = UUID.randomUUID();
+        when(balanceRolloverRepository.countActiveEmployees()).thenReturn(1L);
+        when(balanceRolloverRepository.findActiveEmployeeIdsAfter(null, 2)).thenReturn(List.of(a));
+        when(balanceRolloverRepository.findActiveEmployeeIdsAfter(a, 2)).thenReturn(List.of());
+
+        balanceRolloverService.rollover(year);
+
+        verify(balanceRolloverRepository, never()).settleCarryOver(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should report failure and allow a new run when a chunk fails")
+    void should_ReportFailure_When_ChunkFails() {
+        UUID a = UUID.randomUUID();
+        when(balanceRolloverRepository.countActiveEmployees()).thenReturn(1L);
+        when(balanceRolloverRepository.findActiveEmployeeIdsAfter(null, 2)).thenReturn(List.of(a));
+        when(balanceRolloverRepository.createBalances(any(), eq(2027), eq(22), eq(5)))
+                .thenThrow(new IllegalStateException("connection lost"));
+
+        balanceRolloverService.rollover(2027);
+
+        assertEquals(State.FAILED, balanceRolloverService.getStatus().state());
+        assertEquals("connection lost", balanceRolloverService.getStatus().error());
+
+        balanceRolloverService.rollover(2027);
+        verify(balanceRolloverRepository, times(2)).countActiveEmployees();
+    }
+}
@@ -1,9 +1,13 @@
 package com.eltonsantos.backend.service;
 
 import com.eltonsantos.backend.entity.Employee;
+import com.eltonsantos.backend.entity.User;
 import com.eltonsantos.backend.entity.VacationBalance;
+import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.exception.UnauthorizedException;
 import com.eltonsantos.backend.repository.EmployeeRepository;
 import com.eltonsantos.backend.repository.VacationBalanceRepository;
+import com.eltonsantos.backend.security.CustomUserDetails;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,6 +35,15 @@ class BalanceServiceTest {
     @Mock
     private AuthService authService;
 
+    @Mock
+    private BalanceRolloverService balanceRolloverService;
+
+    @Mock
+    private EmployeeIdCache employeeIdCache;
+
+    @Mock
+    private OrgHierarchy orgHierarchy;
+
     @InjectMocks
     private BalanceService balanceService;
 
@@ -88,4 +101,42 @@ class BalanceServiceTest {
         assertEquals(22, testBalance.getRemainingDays());
         verify(vacationBalanceRepository).save(testBalance);
     }
+
+    @Test
+    @DisplayName("Should create a missing balance through the rollover rules without loading the employee")
+    void should_CreateBalance_When_MissingForYear() {
+        when(vacationBalanceRepository.findByEmployeeIdAndYear(employeeId, 2026))
+                .thenReturn(Optional.empty(), Optional.of(testBalance));
+
+        VacationBalance balance = balanceService.getOrCreateBalance(employeeId, 2026);
+
+        assertSame(testBalance, balance);
+        verify(balanceRolloverService).createBalance(employeeId, 2026);
+        verify(employeeRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should refuse the ETag of another employee's balance before reading its version")
+    void should_RefuseETag_When_CollaboratorReadsOtherBalance() {
+        UUID userId = UUID.randomUUID();
+        when(authService.getCurrentUserDetails()).thenReturn(new CustomUserDetails(
+                User.builder().id(userId).email("ana@example.com").role(Role.COLLABORATOR).build()));
+        when(employeeIdCache.findEmployeeIdByUserId(userId)).thenReturn(Optional.of(UUID.randomUUID()));
+
+        assertThrows(UnauthorizedException.class, () -> balanceService.findETagByEmployeeAndYear(employeeId, 2026));
+        assertThrows(UnauthorizedException.class, () -> balanceService.findByEmployeeAndYear(employeeId, 2026));
+        verifyNoInteractions(vacationBalanceRepository);
+    }
+
+    @Test
+    @DisplayName("Should let a manager read the balance of an employee in the reporting chain")
+    void should_ReturnBalance_When_ManagerReadsTeamBalance() {
+        UUID managerId = UUID.randomUUID();
+        when(authService.getCurrentUserDetails()).thenReturn(new CustomUserDetails(
+                User.builder().id(managerId).email("boss@example.com").role(Role.MANAGER).build()));
+        when(orgHierarchy.isInReportingChainOf(managerId, employeeId)).thenReturn(true);
+        when(vacationBalanceRepository.findByEmployeeIdAndYear(employeeId, 2026)).thenReturn(Optional.of(testBalance));
+
+        assertEquals(17, balanceService.findByEmployeeAndYear(employeeId, 2026).remainingDays());
+    }
 }
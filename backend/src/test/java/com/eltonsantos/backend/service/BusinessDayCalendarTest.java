@@ -0,0 +1,101 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.entity.Holiday;
+import com.eltonsantos.backend.event.HolidayChangedEvent;
+import com.eltonsantos.backend.repository.HolidayRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BusinessDayCalendarTest {
+
+    @Mock
+    private HolidayRepository holidayRepository;
+
+    @InjectMocks
+    private BusinessDayCalendar businessDayCalendar;
+
+    @Test
+    @DisplayName("Should count weekdays and skip weekends within a year")
+    void should_CountWeekdays_When_NoHolidays() {
+        when(holidayRepository.findByDateBetweenOrderByDate(any(), any())).thenReturn(List.of());
+
+        // Mon 2026-03-02 .. Sun 2026-03-15: two full weeks
+        assertEquals(10, businessDayCalendar.countBusinessDays(LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 15)));
+        // A single Saturday
+        assertEquals(0, businessDayCalendar.countBusinessDays(LocalDate.of(2026, 3, 7), LocalDate.of(2026, 3, 7)));
+        // The whole of 2026 has 261 weekdays
+        assertEquals(261, businessDayCalendar.countBusinessDays(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31)));
+        verify(holidayRepository, times(1)).findByDateBetweenOrderByDate(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should subtract holidays and count ranges spanning several years")
+    void should_SubtractHolidays_When_RangeSpansYears() {
+        when(holidayRepository.findByDateBetweenOrderByDate(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)))
+                .thenReturn(List.of(holiday(LocalDate.of(2025, 12, 25))));
+        when(holidayRepository.findByDateBetweenOrderByDate(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31)))
+                .thenReturn(List.of(holiday(LocalDate.of(2026, 1, 1))));
+
+        // Mon 2025-12-22 .. Fri 2026-01-02: 10 weekdays minus Christmas and New Year
+        assertEquals(8, businessDayCalendar.countBusinessDays(LocalDate.of(2025, 12, 22), LocalDate.of(2026, 1, 2)));
+        assertFalse(businessDayCalendar.isBusinessDay(LocalDate.of(2026, 1, 1)));
+        assertTrue(businessDayCalendar.isBusinessDay(LocalDate.of(2026, 1, 2)));
+    }
+
+    @Test
+    @DisplayName("Should patch the cached year when a holiday is added or removed")
+    void should_PatchCachedYear_When_HolidayChanges() {
+        when(holidayRepository.findByDateBetweenOrderByDate(any(), any())).thenReturn(List.of());
+        LocalDate start = LocalDate.of(2026, 4, 20);
+        LocalDate end = LocalDate.of(2026, 4, 24);
+        assertEquals(5, businessDayCalendar.countBusinessDays(start, end));
+
+        businessDayCalendar.onHolidayChanged(new HolidayChangedEvent(LocalDate.of(2026, 4, 21), true));
+        assertEquals(4, businessDayCalendar.countBusinessDays(start, end));
+        assertEquals(260, businessDayCalendar.countBusinessDays(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31)));
+
+        businessDayCalendar.onHolidayChanged(new HolidayChangedEvent(LocalDate.of(2026, 4, 21), false));
+        assertEquals(5, businessDayCalendar.countBusinessDays(start, end));
+
+        // Holidays on weekends do not change the count
+        businessDayCalendar.onHolidayChanged(new HolidayChangedEvent(LocalDate.of(2026, 4, 25), true));
+        assertEquals(5, businessDayCalendar.countBusinessDays(start, LocalDate.of(2026, 4, 26)));
+
+        verify(holidayRepository, times(1)).findByDateBetweenOrderByDate(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep a patch applied while the periodic reload was reading the holidays")
+    void should_KeepPatch_When_HolidayChangesDuringReload() {
+        LocalDate start = LocalDate.of(2026, 4, 20);
+        LocalDate end = LocalDate.of(2026, 4, 24);
+        when(holidayRepository.findByDateBetweenOrderByDate(any(), any()))
+                .thenReturn(List.of())
+                .thenAnswer(invocation -> {
+                    // The holiday commits after the reload has read the table
+                    businessDayCalendar.onHolidayChanged(new HolidayChangedEvent(LocalDate.of(2026, 4, 21), true));
+                    return List.of();
+                });
+        assertEquals(5, businessDayCalendar.countBusinessDays(start, end));
+
+        businessDayCalendar.refreshCachedYears();
+
+        assertEquals(4, businessDayCalendar.countBusinessDays(start, end));
+    }
+
+    private static Holiday holiday(LocalDate date) {
+        return Holiday.builder().date(date).name("Holiday").build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.eltonsantos.backend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseNotificationsTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private DatabaseNotifications.Listener first;
+
+    @Mock
+    private DatabaseNotifications.Listener second;
+
+    @Mock
+    private DatabaseNotifications.Listener other;
+
+    @Test
+    @DisplayName("Should hand a notification to every listener of its channel, even if one fails")
+    void should_DispatchToChannelListeners_When_OneFails() {
+        DatabaseNotifications notifications = new DatabaseNotifications(dataSource, 1000, 5000);
+        notifications.subscribe("employee_links", first);
+        notifications.subscribe("employee_links", second);
+        notifications.subscribe("vacation_changes", other);
+        doThrow(new IllegalStateException("boom")).when(first).onNotification("{}");
+
+        notifications.dispatch("employee_links", "{}");
+
+        verify(second).onNotification("{}");
+        verifyNoInteractions(other);
+    }
+}
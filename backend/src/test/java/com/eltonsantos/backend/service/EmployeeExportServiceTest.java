@@ -0,0 +1,93 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.dto.response.EmployeeResponse;
+import com.eltonsantos.backend.entity.User;
+import com.eltonsantos.backend.enums.ExportFormat;
+import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.exception.UnauthorizedException;
+import com.eltonsantos.backend.repository.EmployeeExportRepository;
+import com.eltonsantos.backend.repository.EmployeeExportRepository.RowWriter;
+import com.eltonsantos.backend.security.CustomUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeExportServiceTest {
+
+    @Mock
+    private EmployeeExportRepository employeeExportRepository;
+
+    @Mock
+    private AuthService authService;
+
+    private EmployeeExportService employeeExportService;
+
+    private final EmployeeResponse employee = new EmployeeResponse(UUID.randomUUID(), "Souza, Ana", "ana@example.com",
+            null, null, null, true, LocalDateTime.of(2026, 1, 15, 10, 30), LocalDateTime.of(2026, 1, 20, 14, 45));
+
+    @BeforeEach
+    void setUp() {
+        employeeExportService = new EmployeeExportService(employeeExportRepository, authService,
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    @DisplayName("Should stream a manager's subtree as CSV with quoted fields")
+    void should_WriteCsv_When_ManagerExports() throws Exception {
+        User manager = User.builder().id(UUID.randomUUID()).email("boss@example.com").role(Role.MANAGER).build();
+        when(authService.getCurrentUserDetails()).thenReturn(new CustomUserDetails(manager));
+        doAnswer(i -> {
+            i.<RowWriter>getArgument(1).write(employee);
+            return null;
+        }).when(employeeExportRepository).forEachActive(eq(manager.getId()), any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        employeeExportService.export(ExportFormat.CSV).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,full_name,email"));
+        assertEquals(employee.id() + ",\"Souza, Ana\",ana@example.com,,,,true,2026-01-15T10:30,2026-01-20T14:45",
+                lines[1]);
+    }
+
+    @Test
+    @DisplayName("Should stream every employee as NDJSON for admins and reject collaborators")
+    void should_WriteNdjson_When_AdminExports() throws Exception {
+        User admin = User.builder().id(UUID.randomUUID()).email("admin@example.com").role(Role.ADMIN).build();
+        when(authService.getCurrentUserDetails()).thenReturn(new CustomUserDetails(admin));
+        doAnswer(i -> {
+            RowWriter writer = i.getArgument(1);
+            writer.write(employee);
+            writer.write(employee);
+            return null;
+        }).when(employeeExportRepository).forEachActive(isNull(), any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        employeeExportService.export(ExportFormat.NDJSON).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":\"" + employee.id() + "\""));
+
+        User collaborator = User.builder().id(UUID.randomUUID()).email("c@example.com").role(Role.COLLABORATOR).build();
+        when(authService.getCurrentUserDetails()).thenReturn(new CustomUserDetails(collaborator));
+        assertThrows(UnauthorizedException.class, () -> employeeExportService.export(ExportFormat.CSV));
+    }
+}
@@ -0,0 +1,73 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.event.EmployeeChangedEvent;
+import com.eltonsantos.backend.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeIdCacheTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private DatabaseNotifications databaseNotifications;
+
+    private EmployeeIdCache employeeIdCache;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID employeeId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        employeeIdCache = new EmployeeIdCache(employeeRepository, databaseNotifications, new ObjectMapper(),
+                100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Should load a miss once and drop it when the employee's user link changes")
+    void should_CacheUntilEmployeeChanged_When_Loaded() {
+        UUID otherUserId = UUID.randomUUID();
+        when(employeeRepository.findIdByUserId(userId)).thenReturn(Optional.of(employeeId), Optional.empty());
+
+        assertEquals(Optional.of(employeeId), employeeIdCache.findEmployeeIdByUserId(userId));
+        assertEquals(Optional.of(employeeId), employeeIdCache.findEmployeeIdByUserId(userId));
+
+        // Linked to another user: the previous user's entry must go as well
+        employeeIdCache.onEmployeeChanged(new EmployeeChangedEvent(employeeId, null, otherUserId, userId, true));
+
+        assertEquals(Optional.empty(), employeeIdCache.findEmployeeIdByUserId(userId));
+        verify(employeeRepository, times(2)).findIdByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("Should drop the entries named by a notification from another node")
+    void should_Invalidate_When_NotifiedOfChange() {
+        when(employeeRepository.findIdByUserId(userId)).thenReturn(Optional.empty(), Optional.of(employeeId));
+        employeeIdCache.subscribe();
+        ArgumentCaptor<DatabaseNotifications.Listener> listener = ArgumentCaptor.forClass(DatabaseNotifications.Listener.class);
+        verify(databaseNotifications).subscribe(eq("employee_links"), listener.capture());
+
+        assertEquals(Optional.empty(), employeeIdCache.findEmployeeIdByUserId(userId));
+        listener.getValue().onNotification("""
+                {"employeeId":"%s","managerId":null,"userId":"%s","previousUserId":null,"active":true}
+                """.formatted(employeeId, userId));
+
+        assertEquals(Optional.of(employeeId), employeeIdCache.findEmployeeIdByUserId(userId));
+    }
+}
@@ -0,0 +1,152 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.dto.response.EmployeeImportResponse;
+import com.eltonsantos.backend.dto.response.EmployeeImportResponse.RowError;
+import com.eltonsantos.backend.entity.User;
+import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.exception.BusinessException;
+import com.eltonsantos.backend.repository.EmployeeImportRepository;
+import com.eltonsantos.backend.repository.ReportingChainRepository;
+import com.eltonsantos.backend.security.CustomUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeImportServiceTest {
+
+    @Mock
+    private EmployeeImportRepository employeeImportRepository;
+
+    @Mock
+    private BalanceRolloverService balanceRolloverService;
+
+    @Mock
+    private ReportingChainRepository reportingChainRepository;
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ValidatorFactory validatorFactory;
+    private EmployeeImportService employeeImportService;
+
+    private final UUID adminId = UUID.randomUUID();
+    private final CustomUserDetails admin = new CustomUserDetails(
+            User.builder().id(adminId).email("admin@vacation.com").role(Role.ADMIN).build());
+    private final UUID managerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        employeeImportService = new EmployeeImportService(employeeImportRepository, balanceRolloverService,
+                reportingChainRepository, authService, eventPublisher, transactionTemplate, validatorFactory.getValidator(),
+                new ObjectMapper(), 2, 100);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(i -> i.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Should insert valid rows in batches and report invalid ones by line")
+    void should_ImportValidRowsAndReportErrors_When_CsvHasMixedRows() {
+        String csv = """
+                email,full_name,manager_email
+                ana@example.com,Ana Souza,boss@example.com
+                taken@example.com,Already There,
+                not-an-email,Bad Email,
+                bia@example.com,"Bia, the second",
+                ana@example.com,Ana Again,
+                caio@example.com,Caio Lima,ghost@example.com
+                dani@example.com,Dani Reis,
+                """;
+        when(authService.getCurrentUserDetails()).thenReturn(admin);
+        when(employeeImportRepository.findAllEmails()).thenReturn(new HashSet<>(Set.of("taken@example.com")));
+        when(employeeImportRepository.findManagerIdsByEmail()).thenReturn(Map.of("boss@example.com", managerId));
+        when(employeeImportRepository.insertEmployees(anyList()))
+                .thenAnswer(i -> {
+                    int[] counts = new int[((List<?>) i.getArgument(0)).size()];
+                    Arrays.fill(counts, 1);
+                    return counts;
+                });
+
+        EmployeeImportResponse response = employeeImportService.importCsv(stream(csv));
+
+        assertEquals(7, response.totalRows());
+        assertEquals(3, response.imported());
+        assertEquals(4, response.failed());
+        assertEquals(List.of(3L, 4L, 6L, 7L), response.errors().stream().map(RowError::line).toList());
+        assertEquals("Manager not found: ghost@example.com", response.errors().get(3).message());
+        verify(employeeImportRepository, times(2)).insertEmployees(anyList());
+        // One transaction per batch, not one for the whole file
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(balanceRolloverService, times(2)).createBalances(anyList(), anyInt());
+        verify(reportingChainRepository, times(2)).attachNewEmployees(anyList());
+        verify(employeeImportRepository, times(2)).insertAuditLogs(eq(adminId), eq("admin@vacation.com"), eq("CREATE_EMPLOYEE"), eq("Employee"), anyList());
+        verify(eventPublisher, times(3)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should report rows lost to a concurrent insert of the same email")
+    void should_ReportRow_When_EmailInsertedConcurrently() {
+        String csv = "full_name,email\nAna Souza,ana@example.com\nBia Lima,bia@example.com\n";
+        when(authService.getCurrentUserDetails()).thenReturn(admin);
+        when(employeeImportRepository.findAllEmails()).thenReturn(new HashSet<>());
+        when(employeeImportRepository.findManagerIdsByEmail()).thenReturn(Map.of());
+        when(employeeImportRepository.insertEmployees(anyList())).thenReturn(new int[]{1, 0});
+
+        EmployeeImportResponse response = employeeImportService.importCsv(stream(csv));
+
+        assertEquals(1, response.imported());
+        assertEquals(List.of(new RowError(3, "bia@example.com", "Employee with this email already exists")),
+                response.errors());
+    }
+
+    @Test
+    @DisplayName("Should reject a file without the required columns")
+    void should_ThrowException_When_RequiredColumnMissing() {
+        when(authService.getCurrentUserDetails()).thenReturn(admin);
+
+        assertThrows(BusinessException.class, () -> employeeImportService.importCsv(stream("name,email\nAna,ana@example.com\n")));
+        verify(employeeImportRepository, never()).insertEmployees(anyList());
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
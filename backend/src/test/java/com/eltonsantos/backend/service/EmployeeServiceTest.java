@@ -2,13 +2,17 @@ package com.eltonsantos.backend.service;
 
 import com.eltonsantos.backend.dto.request.EmployeeRequest;
 import com.eltonsantos.backend.dto.response.EmployeeResponse;
+import com.eltonsantos.backend.dto.response.EmployeeSearchResponse;
 import com.eltonsantos.backend.entity.Employee;
 import com.eltonsantos.backend.entity.User;
 import com.eltonsantos.backend.enums.Role;
 import com.eltonsantos.backend.exception.BusinessException;
 import com.eltonsantos.backend.repository.EmployeeRepository;
+import com.eltonsantos.backend.repository.EmployeeSearchRepository;
+import com.eltonsantos.backend.repository.ReportingChainRepository;
 import com.eltonsantos.backend.repository.UserRepository;
 import com.eltonsantos.backend.repository.VacationBalanceRepository;
+import com.eltonsantos.backend.security.CustomUserDetails;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,8 +21,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,6 +48,21 @@ class EmployeeServiceTest {
     @Mock
     private AuthService authService;
 
+    @Mock
+    private EmployeeSearchRepository employeeSearchRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OrgHierarchy orgHierarchy;
+
+    @Mock
+    private EmployeeIdCache employeeIdCache;
+
+    @Mock
+    private ReportingChainRepository reportingChainRepository;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -78,7 +99,7 @@ class EmployeeServiceTest {
         );
 
         when(employeeRepository.existsByEmail("jane@example.com")).thenReturn(false);
-        when(employeeRepository.save(any(Employee.class))).thenAnswer(i -> {
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenAnswer(i -> {
             Employee e = i.getArgument(0);
             e.setId(UUID.randomUUID());
             return e;
@@ -92,11 +113,31 @@ class EmployeeServiceTest {
         assertEquals("Jane Smith", response.fullName());
         assertEquals("jane@example.com", response.email());
         assertTrue(response.active());
-        verify(employeeRepository).save(any(Employee.class));
+        verify(employeeRepository).saveAndFlush(any(Employee.class));
+        verify(reportingChainRepository).attach(response.id(), null, null);
         verify(vacationBalanceRepository).save(any());
         verify(auditService).log(any(), eq("CREATE_EMPLOYEE"), any(), any(), any());
     }
 
+    @Test
+    @DisplayName("Should reject a manager that reports to the employee's own user")
+    void should_ThrowException_When_ManagerChangeCreatesCycle() {
+        User employeeUser = User.builder().id(UUID.randomUUID()).email("john@example.com").role(Role.MANAGER).build();
+        User subordinate = User.builder().id(UUID.randomUUID()).email("sub@example.com").role(Role.MANAGER).build();
+        testEmployee.setUser(employeeUser);
+        EmployeeRequest request = new EmployeeRequest("John Doe", "john@example.com", subordinate.getId(), employeeUser.getId());
+
+        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(testEmployee));
+        when(userRepository.findById(subordinate.getId())).thenReturn(Optional.of(subordinate));
+        when(userRepository.findById(employeeUser.getId())).thenReturn(Optional.of(employeeUser));
+        when(reportingChainRepository.isSelfOrBelow(employeeUser.getId(), subordinate.getId())).thenReturn(true);
+
+        assertThrows(BusinessException.class, () -> employeeService.update(employeeId, request));
+
+        verify(reportingChainRepository, never()).detach(any(), any());
+        verify(employeeRepository, never()).saveAndFlush(any());
+    }
+
     @Test
     @DisplayName("Should perform soft delete when deleting employee")
     void should_SoftDelete_When_Deleting() {
@@ -111,4 +152,24 @@ class EmployeeServiceTest {
         verify(employeeRepository, never()).delete(any());
         verify(auditService).log(any(), eq("DELETE_EMPLOYEE"), any(), any(), any());
     }
+
+    @Test
+    @DisplayName("Should trim the term and cap the result size when searching")
+    void should_SearchWithinLimit_When_AdminSearches() {
+        EmployeeSearchResponse match = new EmployeeSearchResponse(employeeId, "John Doe", "john@example.com", 0.8);
+        when(authService.getCurrentUserDetails()).thenReturn(new CustomUserDetails(adminUser));
+        when(employeeSearchRepository.search("john", 50)).thenReturn(List.of(match));
+
+        List<EmployeeSearchResponse> results = employeeService.search("  john ", 500);
+
+        assertEquals(List.of(match), results);
+        assertThrows(BusinessException.class, () -> employeeService.search(" ", 10));
+    }
+
+    @Test
+    @DisplayName("Should reject search terms shorter than three characters without querying")
+    void should_ThrowException_When_SearchTermTooShort() {
+        assertThrows(BusinessException.class, () -> employeeService.search(" jo ", 10));
+        verifyNoInteractions(employeeSearchRepository);
+    }
 }
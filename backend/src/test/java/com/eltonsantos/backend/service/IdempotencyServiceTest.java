@@ -0,0 +1,99 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.repository.IdempotencyKeyRepository;
+import com.eltonsantos.backend.repository.IdempotencyKeyRepository.StoredKey;
+import com.eltonsantos.backend.service.IdempotencyService.Decision;
+import com.eltonsantos.backend.service.IdempotencyService.Outcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private IdempotencyService idempotencyService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(idempotencyKeyRepository, Duration.ofHours(24), Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    @DisplayName("Should replay a completed response from the cache without touching the database")
+    void should_ReplayFromCache_When_KeyCompleted() {
+        when(idempotencyKeyRepository.tryReserve(eq(userId), eq("k1"), eq("hash"), any())).thenReturn(true);
+
+        assertEquals(Outcome.EXECUTE, idempotencyService.begin(userId, "k1", "hash").outcome());
+        idempotencyService.complete(userId, "k1", "hash", 201, "application/json", "{\"id\":1}");
+
+        Decision replay = idempotencyService.begin(userId, "k1", "hash");
+
+        assertEquals(Outcome.REPLAY, replay.outcome());
+        assertEquals(201, replay.response().status());
+        assertEquals("{\"id\":1}", replay.response().body());
+        verify(idempotencyKeyRepository, times(1)).tryReserve(any(), anyString(), anyString(), any());
+        verify(idempotencyKeyRepository, never()).find(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject a reused key with a different payload and report keys still in progress")
+    void should_ReturnMismatchOrInProgress_When_KeyAlreadyReserved() {
+        when(idempotencyKeyRepository.tryReserve(any(), anyString(), anyString(), any())).thenReturn(false);
+        when(idempotencyKeyRepository.find(userId, "k2")).thenReturn(Optional.of(
+                new StoredKey("hash", false, null, null, null, LocalDateTime.now().plusHours(1))));
+
+        assertEquals(Outcome.IN_PROGRESS, idempotencyService.begin(userId, "k2", "hash").outcome());
+        assertEquals(Outcome.MISMATCH, idempotencyService.begin(userId, "k2", "other").outcome());
+    }
+
+    @Test
+    @DisplayName("Should reserve a key for the lease only and keep the response for the TTL once stored")
+    void should_ReserveForLease_And_StoreForTtl() {
+        when(idempotencyKeyRepository.tryReserve(eq(userId), eq("k3"), eq("hash"), any())).thenReturn(true);
+        LocalDateTime before = LocalDateTime.now();
+
+        idempotencyService.begin(userId, "k3", "hash");
+        idempotencyService.complete(userId, "k3", "hash", 201, "application/json", "{}");
+
+        ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(idempotencyKeyRepository).tryReserve(eq(userId), eq("k3"), eq("hash"), leaseUntil.capture());
+        assertTrue(leaseUntil.getValue().isBefore(before.plusMinutes(6)));
+        ArgumentCaptor<LocalDateTime> expiresAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(idempotencyKeyRepository).complete(eq(userId), eq("k3"), eq(201), eq("application/json"), eq("{}"),
+                expiresAt.capture());
+        assertFalse(expiresAt.getValue().isBefore(before.plusHours(24)));
+    }
+
+    @Test
+    @DisplayName("Should not replay from the cache after the stored row has expired")
+    void should_ReadDatabaseAgain_When_StoredRowExpired() {
+        when(idempotencyKeyRepository.tryReserve(any(), anyString(), anyString(), any())).thenReturn(false);
+        when(idempotencyKeyRepository.find(userId, "k4")).thenReturn(Optional.of(
+                new StoredKey("hash", true, 201, "application/json", "{}", LocalDateTime.now().minusSeconds(1))));
+
+        assertEquals(Outcome.REPLAY, idempotencyService.begin(userId, "k4", "hash").outcome());
+        assertEquals(Outcome.REPLAY, idempotencyService.begin(userId, "k4", "hash").outcome());
+
+        verify(idempotencyKeyRepository, times(2)).find(userId, "k4");
+    }
+}
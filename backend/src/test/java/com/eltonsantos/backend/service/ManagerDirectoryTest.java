@@ -0,0 +1,75 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.dto.response.UserResponse;
+import com.eltonsantos.backend.entity.User;
+import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.event.UserChangedEvent;
+import com.eltonsantos.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ManagerDirectoryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ManagerDirectory managerDirectory;
+
+    private final User bruno = user("bruno@empresa.com", Role.MANAGER);
+    private final User ana = user("ana@empresa.com", Role.MANAGER);
+
+    @BeforeEach
+    void setUp() {
+        managerDirectory = new ManagerDirectory(userRepository, 60_000);
+    }
+
+    @Test
+    @DisplayName("Should load once and serve managers sorted by email from memory")
+    void should_ServeFromMemory_When_NothingChanged() {
+        when(userRepository.findByRole(Role.MANAGER)).thenReturn(List.of(bruno, ana));
+
+        ManagerDirectory.Entry first = managerDirectory.find();
+        ManagerDirectory.Entry second = managerDirectory.find();
+
+        assertEquals(List.of("ana@empresa.com", "bruno@empresa.com"),
+                first.users().stream().map(UserResponse::email).toList());
+        assertSame(first, second);
+        verify(userRepository, times(1)).findByRole(Role.MANAGER);
+    }
+
+    @Test
+    @DisplayName("Should reload and change the ETag after a user change")
+    void should_ReloadWithNewETag_When_UserChanged() {
+        User carla = user("carla@empresa.com", Role.MANAGER);
+        when(userRepository.findByRole(Role.MANAGER)).thenReturn(List.of(ana), List.of(ana, carla));
+
+        String before = managerDirectory.find().etag();
+        managerDirectory.onUserChanged(new UserChangedEvent(carla.getId()));
+        ManagerDirectory.Entry after = managerDirectory.find();
+
+        assertEquals(2, after.users().size());
+        assertNotEquals(before, after.etag());
+        verify(userRepository, times(2)).findByRole(Role.MANAGER);
+    }
+
+    private static User user(String email, Role role) {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .email(email)
+                .role(role)
+                .updatedAt(LocalDateTime.of(2026, 1, 15, 10, 30))
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.event.EmployeeChangedEvent;
+import com.eltonsantos.backend.event.UserDeletedEvent;
+import com.eltonsantos.backend.repository.OrgHierarchyRepository;
+import com.eltonsantos.backend.repository.OrgHierarchyRepository.Link;
+import com.eltonsantos.backend.repository.OrgHierarchyRepository.LinkConsumer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrgHierarchyTest {
+
+    @Mock
+    private OrgHierarchyRepository orgHierarchyRepository;
+
+    @Mock
+    private DatabaseNotifications databaseNotifications;
+
+    private OrgHierarchy orgHierarchy;
+
+    private final UUID managerUserId = UUID.randomUUID();
+    private final UUID aliceUserId = UUID.randomUUID();
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        orgHierarchy = new OrgHierarchy(orgHierarchyRepository, databaseNotifications, new ObjectMapper());
+        doAnswer(invocation -> {
+            LinkConsumer consumer = invocation.getArgument(0);
+            consumer.accept(alice, managerUserId, aliceUserId);
+            consumer.accept(bob, managerUserId, null);
+            return null;
+        }).when(orgHierarchyRepository).forEachEmployee(any());
+    }
+
+    @Test
+    @DisplayName("Should answer access checks from the index loaded on first use")
+    void should_AnswerFromIndex_When_Loaded() {
+        assertTrue(orgHierarchy.isManagerOf(managerUserId, alice));
+        assertTrue(orgHierarchy.isUserOf(aliceUserId, alice));
+        assertFalse(orgHierarchy.isUserOf(managerUserId, alice));
+        verify(orgHierarchyRepository, times(1)).forEachEmployee(any());
+    }
+
+    @Test
+    @DisplayName("Should resolve indirect reports through the manager's own employee record")
+    void should_ResolveReportingChain_When_ManagerHasManager() {
+        UUID directorUserId = UUID.randomUUID();
+        orgHierarchy.reload();
+        orgHierarchy.onEmployeeChanged(new EmployeeChangedEvent(UUID.randomUUID(), directorUserId, managerUserId, null, true));
+
+        assertTrue(orgHierarchy.isInReportingChainOf(directorUserId, alice));
+        assertTrue(orgHierarchy.isInReportingChainOf(managerUserId, alice));
+        assertFalse(orgHierarchy.isManagerOf(directorUserId, alice));
+        assertFalse(orgHierarchy.isInReportingChainOf(aliceUserId, alice));
+    }
+
+    @Test
+    @DisplayName("Should apply employee and user changes without reloading")
+    void should_UpdateIndex_When_ChangesArePublished() {
+        UUID newManagerUserId = UUID.randomUUID();
+        orgHierarchy.reload();
+
+        orgHierarchy.onEmployeeChanged(new EmployeeChangedEvent(alice, newManagerUserId, aliceUserId, null, true));
+        orgHierarchy.onEmployeeChanged(new EmployeeChangedEvent(bob, managerUserId, null, null, true));
+
+        assertFalse(orgHierarchy.isManagerOf(managerUserId, alice));
+        assertTrue(orgHierarchy.isManagerOf(newManagerUserId, alice));
+        assertTrue(orgHierarchy.isManagerOf(managerUserId, bob));
+
+        orgHierarchy.onUserDeleted(new UserDeletedEvent(newManagerUserId));
+        orgHierarchy.onUserDeleted(new UserDeletedEvent(aliceUserId));
+
+        assertFalse(orgHierarchy.isManagerOf(newManagerUserId, alice));
+        assertFalse(orgHierarchy.isInReportingChainOf(newManagerUserId, alice));
+        assertFalse(orgHierarchy.isUserOf(aliceUserId, alice));
+        verify(orgHierarchyRepository, times(1)).forEachEmployee(any());
+    }
+
+    @Test
+    @DisplayName("Should confirm a negative answer against the database and keep the fresh links")
+    void should_FallBackToDatabase_When_IndexIsStale() {
+        UUID newManagerUserId = UUID.randomUUID();
+        orgHierarchy.reload();
+        when(orgHierarchyRepository.findChainLinks(alice))
+                .thenReturn(List.of(new Link(alice, newManagerUserId, aliceUserId, true)));
+
+        assertTrue(orgHierarchy.isManagerOf(newManagerUserId, alice));
+        assertTrue(orgHierarchy.isInReportingChainOf(newManagerUserId, alice));
+
+        verify(orgHierarchyRepository, times(1)).findChainLinks(alice);
+    }
+
+    @Test
+    @DisplayName("Should apply employee link notifications from other nodes and reload on connect")
+    void should_ApplyNotification_When_EmployeeChangedElsewhere() {
+        UUID newManagerUserId = UUID.randomUUID();
+        orgHierarchy.subscribe();
+        ArgumentCaptor<DatabaseNotifications.Listener> listener = ArgumentCaptor.forClass(DatabaseNotifications.Listener.class);
+        verify(databaseNotifications).subscribe(eq("employee_links"), listener.capture());
+
+        listener.getValue().onConnected();
+        listener.getValue().onNotification("""
+                {"employeeId":"%s","managerId":"%s","userId":"%s","previousUserId":"%s","active":true}
+                """.formatted(alice, newManagerUserId, aliceUserId, aliceUserId));
+
+        assertTrue(orgHierarchy.isInReportingChainOfIndexed(newManagerUserId, alice));
+        assertFalse(orgHierarchy.isInReportingChainOfIndexed(managerUserId, alice));
+        verify(orgHierarchyRepository, times(1)).forEachEmployee(any());
+    }
+}
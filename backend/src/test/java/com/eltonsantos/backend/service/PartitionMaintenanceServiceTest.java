@@ -0,0 +1,43 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.repository.PartitionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionMaintenanceServiceTest {
+
+    @Mock
+    private PartitionRepository partitionRepository;
+
+    @Test
+    @DisplayName("Should expire audit partitions older than the retention period")
+    void should_ExpireAuditPartitions_When_RetentionConfigured() {
+        PartitionMaintenanceService service = new PartitionMaintenanceService(partitionRepository, 2, 3, 24, false);
+        when(partitionRepository.expireAuditLogPartitions(any(), anyBoolean())).thenReturn(List.of("audit_logs_p202409"));
+
+        service.expireAuditLogs(LocalDate.of(2026, 10, 1));
+
+        verify(partitionRepository).expireAuditLogPartitions(LocalDate.of(2024, 10, 1), false);
+    }
+
+    @Test
+    @DisplayName("Should keep every audit partition when retention is disabled")
+    void should_KeepAuditPartitions_When_RetentionDisabled() {
+        PartitionMaintenanceService service = new PartitionMaintenanceService(partitionRepository, 2, 3, 0, true);
+
+        service.expireAuditLogs(LocalDate.of(2026, 10, 1));
+
+        verify(partitionRepository, never()).expireAuditLogPartitions(any(), anyBoolean());
+    }
+}
@@ -0,0 +1,232 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.config.TaskExecutorConfig;
+import com.eltonsantos.backend.dto.request.CreateUserRequest;
+import com.eltonsantos.backend.dto.response.UserBatchResponse;
+import com.eltonsantos.backend.dto.response.UserBatchResponse.RowResult;
+import com.eltonsantos.backend.entity.User;
+import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.event.EmployeeChangedEvent;
+import com.eltonsantos.backend.event.UserChangedEvent;
+import com.eltonsantos.backend.exception.BusinessException;
+import com.eltonsantos.backend.exception.RetryLaterException;
+import com.eltonsantos.backend.repository.EmployeeImportRepository;
+import com.eltonsantos.backend.repository.ReportingChainRepository;
+import com.eltonsantos.backend.repository.UserBatchRepository;
+import com.eltonsantos.backend.repository.UserBatchRepository.NewUser;
+import com.eltonsantos.backend.security.CustomUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserBatchServiceTest {
+
+    @Mock
+    private UserBatchRepository userBatchRepository;
+
+    @Mock
+    private EmployeeImportRepository employeeImportRepository;
+
+    @Mock
+    private BalanceRolloverService balanceRolloverService;
+
+    @Mock
+    private ReportingChainRepository reportingChainRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ValidatorFactory validatorFactory;
+    private ThreadPoolTaskExecutor hashExecutor;
+    private UserBatchService userBatchService;
+
+    private final UUID adminId = UUID.randomUUID();
+    private final CustomUserDetails admin = new CustomUserDetails(
+            User.builder().id(adminId).email("admin@vacation.com").role(Role.ADMIN).build());
+    private final UUID managerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        hashExecutor = new TaskExecutorConfig().passwordHashExecutor(2, 10);
+        hashExecutor.initialize();
+        userBatchService = new UserBatchService(userBatchRepository, employeeImportRepository, balanceRolloverService,
+                reportingChainRepository, passwordEncoder, authService, eventPublisher, transactionTemplate,
+                validatorFactory.getValidator(), new ObjectMapper(), hashExecutor, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashExecutor.shutdown();
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Should hash valid rows, insert them in batches and report invalid ones by index")
+    @SuppressWarnings("unchecked")
+    void should_CreateValidRowsAndReportErrors_When_BatchHasMixedRows() {
+        List<CreateUserRequest> requests = List.of(
+                request("ana@empresa.com", Role.COLLABORATOR, managerId),
+                request("taken@empresa.com", Role.MANAGER, null),
+                request("bia@empresa.com", Role.COLLABORATOR, null),
+                request("ana@empresa.com", Role.MANAGER, null),
+                request("root@empresa.com", Role.ADMIN, null));
+        when(authService.getCurrentUserDetails()).thenReturn(admin);
+        when(userBatchRepository.findTakenEmails(any())).thenReturn(new HashSet<>(Set.of("taken@empresa.com")));
+        when(userBatchRepository.findRoles(any())).thenReturn(Map.of(managerId, Role.MANAGER));
+        when(passwordEncoder.encode(anyString())).thenAnswer(i -> "hash:" + i.getArgument(0));
+        doAnswer(i -> {
+            ((Consumer<TransactionStatus>) i.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(userBatchRepository.insertUsers(anyList())).thenAnswer(i -> allInserted(i.getArgument(0)));
+        when(userBatchRepository.insertEmployees(anyList())).thenAnswer(i -> allInserted(i.getArgument(0)));
+
+        UserBatchResponse response = userBatchService.createAll(requests);
+
+        assertEquals(5, response.total());
+        assertEquals(2, response.created());
+        assertEquals(3, response.failed());
+        assertEquals(List.of(true, false, false, false, true),
+                response.results().stream().map(RowResult::created).toList());
+        assertEquals("Email já está em uso", response.results().get(1).message());
+        assertEquals("Colaboradores devem ser associados a um gestor", response.results().get(2).message());
+        assertEquals("Email já está em uso", response.results().get(3).message());
+
+        ArgumentCaptor<List<NewUser>> users = ArgumentCaptor.forClass(List.class);
+        verify(userBatchRepository).insertUsers(users.capture());
+        assertEquals(List.of("hash:Senha@123", "hash:Senha@123"), users.getValue().stream().map(NewUser::passwordHash).toList());
+        verify(userBatchRepository).insertEmployees(argThat(list -> list.size() == 1));
+        verify(balanceRolloverService).createBalances(argThat(ids -> ids.size() == 1), anyInt());
+        verify(reportingChainRepository).attachNewEmployees(argThat(ids -> ids.size() == 1));
+        verify(employeeImportRepository).insertAuditLogs(eq(adminId), eq("admin@vacation.com"), eq("CREATE_USER"), eq("User"),
+                argThat(entries -> entries.size() == 2));
+        verify(eventPublisher).publishEvent(any(EmployeeChangedEvent.class));
+        verify(eventPublisher, times(2)).publishEvent(any(UserChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should drop the user when its employee email was taken concurrently")
+    @SuppressWarnings("unchecked")
+    void should_DeleteUser_When_EmployeeEmailTakenConcurrently() {
+        when(authService.getCurrentUserDetails()).thenReturn(admin);
+        when(userBatchRepository.findTakenEmails(any())).thenReturn(new HashSet<>());
+        when(passwordEncoder.encode(anyString())).thenReturn("hash");
+        doAnswer(i -> {
+            ((Consumer<TransactionStatus>) i.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(userBatchRepository.insertUsers(anyList())).thenReturn(new int[]{1});
+        when(userBatchRepository.insertEmployees(anyList())).thenReturn(new int[]{0});
+
+        UserBatchResponse response = userBatchService.createAll(List.of(request("ana@empresa.com", Role.MANAGER, null)));
+
+        assertEquals(0, response.created());
+        assertFalse(response.results().get(0).created());
+        verify(userBatchRepository).deleteUsers(argThat(ids -> ids.size() == 1));
+        verify(employeeImportRepository, never()).insertAuditLogs(any(), anyString(), anyString(), anyString(), anyList());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a batch larger than the configured limit")
+    void should_ThrowException_When_BatchTooLarge() {
+        List<CreateUserRequest> requests = Collections.nCopies(6, request("ana@empresa.com", Role.MANAGER, null));
+
+        assertThrows(BusinessException.class, () -> userBatchService.createAll(requests));
+        verifyNoInteractions(userBatchRepository, passwordEncoder, transactionTemplate);
+    }
+
+
+    @Test
+    @DisplayName("Should reject the batch with 503 when the hashing queue is full")
+    void should_RejectBatch_When_HashQueueFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        hashExecutor.shutdown();
+        hashExecutor = new TaskExecutorConfig().passwordHashExecutor(1, 1);
+        hashExecutor.initialize();
+        userBatchService = new UserBatchService(userBatchRepository, employeeImportRepository, balanceRolloverService,
+                reportingChainRepository, passwordEncoder, authService, eventPublisher, transactionTemplate,
+                validatorFactory.getValidator(), new ObjectMapper(), hashExecutor, 5);
+        when(authService.getCurrentUserDetails()).thenReturn(admin);
+        when(userBatchRepository.findTakenEmails(any())).thenReturn(new HashSet<>());
+        // The only thread stays busy with the first password, the queue takes one more. Lenient:
+        // the first task can be cancelled before the thread picks it up
+        lenient().when(passwordEncoder.encode(anyString())).thenAnswer(i -> {
+            release.await();
+            return "hash";
+        });
+
+        List<CreateUserRequest> requests = List.of(
+                request("ana@empresa.com", Role.MANAGER, null),
+                request("bia@empresa.com", Role.MANAGER, null),
+                request("caio@empresa.com", Role.MANAGER, null));
+        RetryLaterException exception = assertThrows(RetryLaterException.class, () -> userBatchService.createAll(requests));
+        release.countDown();
+        hashExecutor.getThreadPoolExecutor().shutdown();
+        assertTrue(hashExecutor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS));
+
+        assertTrue(exception.getRetryAfterSeconds() > 0);
+        // Passwords still queued were cancelled, not hashed for nothing
+        verify(passwordEncoder, atMost(1)).encode(anyString());
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    private static CreateUserRequest request(String email, Role role, UUID managerId) {
+        CreateUserRequest request = new CreateUserRequest();
+        request.setEmail(email);
+        request.setPassword("Senha@123");
+        request.setRole(role);
+        request.setFullName("Nome " + email);
+        request.setManagerId(managerId);
+        return request;
+    }
+
+    private static int[] allInserted(List<?> rows) {
+        int[] counts = new int[rows.size()];
+        Arrays.fill(counts, 1);
+        return counts;
+    }
+}
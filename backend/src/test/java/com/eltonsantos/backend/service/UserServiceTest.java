@@ -6,6 +6,7 @@ import com.eltonsantos.backend.entity.User;
 import com.eltonsantos.backend.enums.Role;
 import com.eltonsantos.backend.exception.BusinessException;
 import com.eltonsantos.backend.repository.EmployeeRepository;
+import com.eltonsantos.backend.repository.ReportingChainRepository;
 import com.eltonsantos.backend.repository.UserRepository;
 import com.eltonsantos.backend.repository.VacationBalanceRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -45,6 +47,15 @@ class UserServiceTest {
     @Mock
     private AuthService authService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ReportingChainRepository reportingChainRepository;
+
+    @Mock
+    private ManagerDirectory managerDirectory;
+
     @InjectMocks
     private UserService userService;
 
@@ -77,7 +88,7 @@ class UserServiceTest {
             u.setId(UUID.randomUUID());
             return u;
         });
-        when(employeeRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(employeeRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
         when(vacationBalanceRepository.save(any())).thenAnswer(i -> i.getArgument(0));
         when(authService.getCurrentUserEntity()).thenReturn(adminUser);
 
@@ -87,7 +98,7 @@ class UserServiceTest {
         assertEquals("newuser@example.com", response.email());
         assertEquals(Role.MANAGER, response.role());
         verify(userRepository).save(any(User.class));
-        verify(employeeRepository).save(any());
+        verify(employeeRepository).saveAndFlush(any());
         verify(auditService).log(any(), eq("CREATE_USER"), any(), any(), any());
     }
 
@@ -0,0 +1,204 @@
+package com.eltonsantos.backend.service;
+
+import com.eltonsantos.backend.entity.User;
+import com.eltonsantos.backend.enums.Role;
+import com.eltonsantos.backend.security.CustomUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VacationEventStreamTest {
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private OrgHierarchy orgHierarchy;
+
+    @Mock
+    private DatabaseNotifications databaseNotifications;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final UUID employeeId = UUID.randomUUID();
+
+    private RecordingEmitter emitter;
+    private VacationEventStream stream;
+    private DatabaseNotifications.Listener notifications;
+
+    @BeforeEach
+    void setUp() {
+        when(authService.getCurrentUserDetails()).thenReturn(new CustomUserDetails(
+                User.builder().id(UUID.randomUUID()).email("admin@vacation.com").role(Role.ADMIN).build()));
+        emitter = new RecordingEmitter();
+        stream = new VacationEventStream(authService, orgHierarchy, databaseNotifications, objectMapper,
+                meterRegistry, 10, 2, 60_000, 1) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitter;
+            }
+        };
+        stream.listen();
+        ArgumentCaptor<DatabaseNotifications.Listener> listener = ArgumentCaptor.forClass(DatabaseNotifications.Listener.class);
+        verify(databaseNotifications).subscribe(eq("vacation_changes"), listener.capture());
+        notifications = listener.getValue();
+        notifications.onConnected();
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitter.release.countDown();
+        stream.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should stream changes notified by the database, whichever node made them")
+    void should_StreamNotifiedChanges() throws InterruptedException {
+        UUID vacationId = UUID.randomUUID();
+        emitter.release.countDown();
+        stream.subscribe(null);
+
+        notifications.onNotification(change(42, vacationId));
+
+        String sent = emitter.next();
+        assertTrue(sent.contains("id:42-" + vacationId));
+        assertTrue(sent.contains("event:vacation"));
+    }
+
+    @Test
+    @DisplayName("Should replay only the events after Last-Event-ID when resuming")
+    void should_ReplayMissedEvents_When_ResumingFromLastEventId() throws InterruptedException {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        notifications.onNotification(change(1, first));
+        notifications.onNotification(change(2, second));
+        notifications.onNotification(change(3, third));
+        emitter.release.countDown();
+
+        stream.subscribe("1-" + first);
+
+        assertTrue(emitter.next().contains("id:2-" + second));
+        assertTrue(emitter.next().contains("id:3-" + third));
+        assertNull(emitter.sent.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Should send a reset carrying the newest id when Last-Event-ID is not buffered")
+    void should_SendReset_When_LastEventIdUnknown() throws InterruptedException {
+        UUID vacationId = UUID.randomUUID();
+        notifications.onNotification(change(7, vacationId));
+        emitter.release.countDown();
+
+        stream.subscribe("3-" + UUID.randomUUID());
+
+        String sent = emitter.next();
+        assertTrue(sent.contains("event:reset"));
+        assertTrue(sent.contains("id:7-" + vacationId));
+    }
+
+    @Test
+    @DisplayName("Should reset open streams when the notification connection comes back")
+    void should_ResetStreams_When_Reconnected() throws InterruptedException {
+        emitter.release.countDown();
+        stream.subscribe(null);
+
+        notifications.onConnected();
+
+        assertTrue(emitter.next().contains("event:reset"));
+    }
+
+    @Test
+    @DisplayName("Should close the connection when the client cannot keep up with its queue")
+    void should_CloseConnection_When_QueueOverflows() throws InterruptedException {
+        stream.subscribe(null);
+
+        // The first event is taken by the sender, which then blocks on the slow client
+        notifications.onNotification(change(1, UUID.randomUUID()));
+        assertTrue(emitter.sending.await(5, TimeUnit.SECONDS));
+        notifications.onNotification(change(2, UUID.randomUUID()));
+        notifications.onNotification(change(3, UUID.randomUUID()));
+        notifications.onNotification(change(4, UUID.randomUUID()));
+
+        assertTrue(emitter.completed);
+        assertEquals(1.0, meterRegistry.counter("vacation.stream.dropped").count());
+        assertEquals(0.0, meterRegistry.get("vacation.stream.connections").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should send a heartbeat comment to idle connections")
+    void should_SendHeartbeat_When_Idle() throws InterruptedException {
+        emitter.release.countDown();
+        stream.subscribe(null);
+
+        stream.heartbeat();
+
+        assertTrue(emitter.next().contains(":heartbeat"));
+    }
+
+    private String change(long seq, UUID vacationId) {
+        return """
+                {"seq":%d,"type":"CREATED","vacationId":"%s","employeeId":"%s","employeeUserId":"%s",
+                 "managerId":null,"status":"PENDING","startDate":"2026-11-02","endDate":"2026-11-06",
+                 "occurredAt":"2026-10-19T09:30:00"}
+                """.formatted(seq, vacationId, employeeId, UUID.randomUUID());
+    }
+
+    /**
+     * Records what is sent as SSE text. Sending blocks until {@code release} opens, which plays
+     * a client that does not read.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(data -> text.append(data.getData() instanceof String s ? s : "<data>"));
+            sent.add(text.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+
+        String next() throws InterruptedException {
+            String next = sent.poll(5, TimeUnit.SECONDS);
+            assertNotNull(next, "nothing was sent");
+            return next;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.eltonsantos.backend.service;
 
 import com.eltonsantos.backend.dto.request.VacationDecisionRequest;
 import com.eltonsantos.backend.dto.request.VacationRequestDto;
+import com.eltonsantos.backend.dto.response.KeysetPageResponse;
+import com.eltonsantos.backend.dto.response.VacationChangesResponse;
 import com.eltonsantos.backend.dto.response.VacationResponse;
 import com.eltonsantos.backend.entity.Employee;
 import com.eltonsantos.backend.entity.User;
@@ -10,10 +12,13 @@ import com.eltonsantos.backend.entity.VacationRequest;
 import com.eltonsantos.backend.enums.Role;
 import com.eltonsantos.backend.enums.VacationStatus;
 import com.eltonsantos.backend.exception.BusinessException;
+import com.eltonsantos.backend.exception.RetryLaterException;
 import com.eltonsantos.backend.exception.UnauthorizedException;
 import com.eltonsantos.backend.repository.EmployeeRepository;
 import com.eltonsantos.backend.repository.VacationRequestRepository;
 import com.eltonsantos.backend.security.CustomUserDetails;
+import com.eltonsantos.backend.util.ChangeCursor;
+import com.eltonsantos.backend.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,10 +26,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -51,6 +59,21 @@ class VacationServiceTest {
     @Mock
     private BalanceService balanceService;
 
+    @Mock
+    private EmployeeLockService employeeLockService;
+
+    @Mock
+    private BusinessDayCalendar businessDayCalendar;
+
+    @Mock
+    private OrgHierarchy orgHierarchy;
+
+    @Mock
+    private EmployeeIdCache employeeIdCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private VacationService vacationService;
 
@@ -121,7 +144,9 @@ class VacationServiceTest {
 
         when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(testEmployee));
         when(authService.getCurrentUserDetails()).thenReturn(userDetails);
+        when(orgHierarchy.isUserOf(userId, employeeId)).thenReturn(true);
         when(authService.getCurrentUserEntity()).thenReturn(testUser);
+        when(businessDayCalendar.countBusinessDays(request.startDate(), request.endDate())).thenReturn(8);
         when(balanceService.getOrCreateBalance(employeeId, 2026)).thenReturn(balance);
         when(vacationRequestRepository.findOverlappingForNew(any(), any())).thenReturn(Collections.emptyList());
         when(vacationRequestRepository.save(any(VacationRequest.class))).thenAnswer(i -> {
@@ -135,6 +160,8 @@ class VacationServiceTest {
         assertNotNull(response);
         assertEquals(employeeId, response.employeeId());
         assertEquals(VacationStatus.PENDING, response.status());
+        assertEquals(8, response.daysCount());
+        verify(employeeLockService).lockEmployee(employeeId, "create");
         verify(vacationRequestRepository).save(any(VacationRequest.class));
         verify(auditService).log(any(), eq("CREATE_VACATION"), any(), any(), any());
     }
@@ -161,6 +188,23 @@ class VacationServiceTest {
         verify(vacationRequestRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Should throw BusinessException when period is longer than one year")
+    void should_ThrowException_When_PeriodLongerThanOneYear() {
+        VacationRequestDto request = new VacationRequestDto(
+                employeeId,
+                LocalDate.of(2026, 1, 1),
+                LocalDate.of(2027, 1, 2),
+                "Sabbatical"
+        );
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> vacationService.create(request));
+
+        assertEquals("Vacation period cannot be longer than one year", exception.getMessage());
+        verify(vacationRequestRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("Should throw BusinessException when vacation balance is insufficient")
     void should_ThrowException_When_InsufficientBalance() {
@@ -181,6 +225,8 @@ class VacationServiceTest {
 
         when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(testEmployee));
         when(authService.getCurrentUserDetails()).thenReturn(userDetails);
+        when(orgHierarchy.isUserOf(userId, employeeId)).thenReturn(true);
+        when(businessDayCalendar.countBusinessDays(request.startDate(), request.endDate())).thenReturn(22);
         when(balanceService.getOrCreateBalance(employeeId, 2026)).thenReturn(balance);
 
         BusinessException exception = assertThrows(BusinessException.class,
@@ -198,8 +244,10 @@ class VacationServiceTest {
 
         when(vacationRequestRepository.findById(testVacation.getId())).thenReturn(Optional.of(testVacation));
         when(authService.getCurrentUserDetails()).thenReturn(managerDetails);
+        when(orgHierarchy.isManagerOf(managerId, employeeId)).thenReturn(true);
         when(authService.getCurrentUserEntity()).thenReturn(managerUser);
         when(vacationRequestRepository.findOverlapping(any(), any(), any())).thenReturn(Collections.emptyList());
+        when(businessDayCalendar.countBusinessDays(testVacation.getStartDate(), testVacation.getEndDate())).thenReturn(10);
         
         VacationBalance balance = VacationBalance.builder()
                 .entitledDays(22)
@@ -213,7 +261,9 @@ class VacationServiceTest {
 
         assertNotNull(response);
         assertEquals(VacationStatus.APPROVED, response.status());
-        verify(balanceService).deductDays(any(), anyInt(), anyInt());
+        verify(employeeLockService).lockEmployee(employeeId, "approve");
+        assertEquals(10, response.daysCount());
+        verify(balanceService).deductDays(employeeId, 2026, 10);
         verify(auditService).log(any(), eq("APPROVE_VACATION"), any(), any(), any());
     }
 
@@ -247,6 +297,7 @@ class VacationServiceTest {
 
         when(vacationRequestRepository.findById(managerVacation.getId())).thenReturn(Optional.of(managerVacation));
         when(authService.getCurrentUserDetails()).thenReturn(managerDetails);
+        when(orgHierarchy.isUserOf(managerId, managerEmployee.getId())).thenReturn(true);
 
         UnauthorizedException exception = assertThrows(UnauthorizedException.class,
                 () -> vacationService.approve(managerVacation.getId(), null));
@@ -254,4 +305,145 @@ class VacationServiceTest {
         assertEquals("You cannot approve your own vacation request", exception.getMessage());
         verify(vacationRequestRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("Should page the manager's pending queue by cursor")
+    void should_ReturnNextCursor_When_PendingQueueHasMoreRows() {
+        CustomUserDetails managerDetails = new CustomUserDetails(managerUser);
+        VacationRequest second = VacationRequest.builder()
+                .id(UUID.randomUUID())
+                .employee(testEmployee)
+                .startDate(LocalDate.of(2026, 6, 1))
+                .endDate(LocalDate.of(2026, 6, 5))
+                .status(VacationStatus.PENDING)
+                .requestedAt(testVacation.getRequestedAt().plusMinutes(5))
+                .build();
+
+        when(authService.getCurrentUserDetails()).thenReturn(managerDetails);
+        when(vacationRequestRepository.findPendingKeysByManagerId(managerId, 2))
+                .thenReturn(List.of(pendingKey(testVacation), pendingKey(second)));
+        when(vacationRequestRepository.findAllWithEmployeeByIdIn(List.of(testVacation.getId())))
+                .thenReturn(List.of(testVacation));
+
+        KeysetPageResponse<VacationResponse> page = vacationService.findPending(null, 1);
+
+        assertEquals(1, page.content().size());
+        assertEquals(testVacation.getId(), page.content().get(0).id());
+        assertTrue(page.hasNext());
+        KeysetCursor cursor = KeysetCursor.decode(page.nextCursor());
+        assertEquals(testVacation.getId(), cursor.id());
+        assertEquals(testVacation.getRequestedAt(), cursor.timestamp());
+    }
+
+    @Test
+    @DisplayName("Should keep paging the pending queue when a row is deleted before it is loaded")
+    void should_KeepNextCursor_When_PendingRowDeletedBeforeLoad() {
+        CustomUserDetails managerDetails = new CustomUserDetails(managerUser);
+        UUID deletedId = UUID.randomUUID();
+        LocalDateTime deletedRequestedAt = testVacation.getRequestedAt().plusMinutes(5);
+        List<VacationRequestRepository.PendingView> keys = List.of(
+                pendingKey(testVacation),
+                new PendingKey(deletedId, deletedRequestedAt),
+                new PendingKey(UUID.randomUUID(), deletedRequestedAt.plusMinutes(5)));
+
+        when(authService.getCurrentUserDetails()).thenReturn(managerDetails);
+        when(vacationRequestRepository.findPendingKeysByManagerId(managerId, 3)).thenReturn(keys);
+        when(vacationRequestRepository.findAllWithEmployeeByIdIn(List.of(testVacation.getId(), deletedId)))
+                .thenReturn(List.of(testVacation));
+
+        KeysetPageResponse<VacationResponse> page = vacationService.findPending(null, 2);
+
+        assertEquals(1, page.content().size());
+        assertTrue(page.hasNext());
+        KeysetCursor cursor = KeysetCursor.decode(page.nextCursor());
+        assertEquals(deletedId, cursor.id());
+        assertEquals(deletedRequestedAt, cursor.timestamp());
+    }
+
+    @Test
+    @DisplayName("Should derive the ETag from version columns and still check read access")
+    void should_ReturnVersionETag_When_UserCanReadVacation() {
+        UUID vacationId = testVacation.getId();
+        VacationRequestRepository.VersionView version = mock(VacationRequestRepository.VersionView.class);
+        when(version.getVersion()).thenReturn(3L, 4L);
+        when(version.getEmployeeUpdatedAt()).thenReturn(LocalDateTime.of(2026, 1, 10, 9, 0));
+        when(version.getEmployeeId()).thenReturn(employeeId);
+        when(vacationRequestRepository.findVersionById(vacationId)).thenReturn(Optional.of(version));
+        when(authService.getCurrentUserDetails()).thenReturn(new CustomUserDetails(testUser));
+        when(orgHierarchy.isUserOf(userId, employeeId)).thenReturn(true);
+
+        String first = vacationService.findETagById(vacationId);
+        String second = vacationService.findETagById(vacationId);
+
+        assertTrue(first.startsWith("\"") && first.endsWith("\""));
+        assertNotEquals(first, second);
+        verify(vacationRequestRepository, never()).findById(any());
+
+        User otherUser = User.builder().id(UUID.randomUUID()).email("other@example.com")
+                .passwordHash("hash").role(Role.COLLABORATOR).build();
+        when(authService.getCurrentUserDetails()).thenReturn(new CustomUserDetails(otherUser));
+        assertThrows(UnauthorizedException.class, () -> vacationService.findETagById(vacationId));
+    }
+
+    @Test
+    @DisplayName("Should advance the change cursor to the last returned change and keep it when nothing changed")
+    void should_AdvanceChangeCursor_When_ChangesExist() {
+        VacationRequestRepository.ChangeView change = mock(VacationRequestRepository.ChangeView.class);
+        when(change.getId()).thenReturn(testVacation.getId());
+        when(change.getChangeSeq()).thenReturn(1042L);
+        when(vacationRequestRepository.findChangesAfter(-1, new UUID(0, 0), 11)).thenReturn(List.of(change));
+        when(vacationRequestRepository.findAllWithEmployeeByIdIn(List.of(testVacation.getId())))
+                .thenReturn(List.of(testVacation));
+        when(transactionTemplate.execute(any())).thenAnswer(i -> i.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        VacationChangesResponse first = vacationService.findChanges(null, 10);
+
+        assertEquals(1, first.changes().size());
+        assertFalse(first.hasMore());
+        assertEquals(new ChangeCursor(1042L, testVacation.getId()), ChangeCursor.decode(first.cursor()));
+
+        when(vacationRequestRepository.findChangesAfter(1042L, testVacation.getId(), 11)).thenReturn(List.of());
+
+        VacationChangesResponse second = vacationService.findChanges(first.cursor(), 10);
+
+        assertTrue(second.changes().isEmpty());
+        assertEquals(first.cursor(), second.cursor());
+    }
+
+    @Test
+    @DisplayName("Should wait for held-back changes and return them once the blocking transaction ends")
+    void should_WaitForHeldBackChanges_When_ReleasedInTime() {
+        VacationRequestRepository.ChangeView change = mock(VacationRequestRepository.ChangeView.class);
+        when(change.getId()).thenReturn(testVacation.getId());
+        when(change.getChangeSeq()).thenReturn(1042L);
+        when(vacationRequestRepository.findChangesAfter(-1, new UUID(0, 0), 11))
+                .thenReturn(List.of())
+                .thenReturn(List.of(change));
+        when(vacationRequestRepository.existsHeldBackChangesAfter(-1, new UUID(0, 0))).thenReturn(true);
+        when(vacationRequestRepository.findAllWithEmployeeByIdIn(List.of(testVacation.getId())))
+                .thenReturn(List.of(testVacation));
+        when(transactionTemplate.execute(any())).thenAnswer(i -> i.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        VacationChangesResponse response = vacationService.findChanges(null, 10);
+
+        assertEquals(1, response.changes().size());
+    }
+
+    @Test
+    @DisplayName("Should ask the client to retry later instead of answering an empty page while changes are held back")
+    void should_AskToRetryLater_When_ChangesStayHeldBack() {
+        when(vacationRequestRepository.findChangesAfter(-1, new UUID(0, 0), 11)).thenReturn(List.of());
+        when(vacationRequestRepository.existsHeldBackChangesAfter(-1, new UUID(0, 0))).thenReturn(true);
+
+        RetryLaterException exception = assertThrows(RetryLaterException.class, () -> vacationService.findChanges(null, 10));
+
+        assertTrue(exception.getRetryAfterSeconds() > 0);
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    private static PendingKey pendingKey(VacationRequest vacation) {
+        return new PendingKey(vacation.getId(), vacation.getRequestedAt());
+    }
+
+    private record PendingKey(UUID getId, LocalDateTime getRequestedAt) implements VacationRequestRepository.PendingView {}
 }